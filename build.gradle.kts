@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.4.3"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.example"
@@ -17,19 +18,293 @@ repositories {
     mavenCentral()
 }
 
+val reactiveStack: Configuration by configurations.creating
+val reactiveDrivers: Configuration by configurations.creating
+
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("com.fasterxml.jackson.module:jackson-module-blackbird")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+    implementation("net.ttddyy:datasource-proxy:1.10")
+    implementation("org.flywaydb:flyway-core")
 
     runtimeOnly("com.h2database:h2")
     runtimeOnly("org.postgresql:postgresql")
+    runtimeOnly("org.flywaydb:flyway-database-postgresql")
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    jmh("org.springframework:spring-test")
+    jmh("com.h2database:h2")
+
+    reactiveStack("org.springframework.boot:spring-boot-starter-webflux")
+    reactiveStack("org.springframework.boot:spring-boot-starter-data-r2dbc")
+    reactiveDrivers("io.r2dbc:r2dbc-h2")
+    reactiveDrivers("org.postgresql:r2dbc-postgresql")
+}
+
+// The reactive profile (WebFlux on Netty, R2DBC reads) is compiled from src/reactive, so the application only
+// carries WebFlux, Reactor and R2DBC when built or run with -Preactive. reactiveTest runs its tests either way.
+val reactive: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[reactive.implementationConfigurationName].extendsFrom(configurations.implementation.get(), reactiveStack)
+configurations[reactive.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get(), reactiveDrivers)
+
+if (providers.gradleProperty("reactive").isPresent) {
+    configurations.runtimeOnly { extendsFrom(reactiveStack, reactiveDrivers) }
+    dependencies {
+        runtimeOnly(reactive.output)
+    }
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// Tests tagged "large" need a generated dataset and a constrained heap; they only run through largeTest
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("large")
+    }
+}
+
+val largeTest by tasks.registering(Test::class) {
+    description = "Runs the large-dataset tests (-Dexport.rows=N, default 5M) on a 256 MB heap."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("large")
+    }
+    maxHeapSize = "256m"
+    systemProperties(System.getProperties().filterKeys { it.toString().startsWith("export.") }
+        .mapKeys { it.key.toString() })
+    outputs.upToDateWhen { false }
+    shouldRunAfter(tasks.test)
+}
+
+// Load tests boot the application on a random port and drive it over real HTTP with a constant arrival rate.
+// Not part of check; run with ./gradlew loadTest. Rates, durations and SLOs are read from -Dloadtest.* properties,
+// for example -Dloadtest.items.rate=500 -Dloadtest.items.p99=50ms. WebStackComparisonLoadTest runs the item reads on both
+// web stacks and writes build/reports/loadTest/web-stack-comparison.txt.
+testing {
+    suites {
+        register<JvmTestSuite>("loadTest") {
+            useJUnitJupiter()
+            dependencies {
+                implementation(project())
+                implementation("org.springframework.boot:spring-boot-starter-test")
+            }
+            targets.all {
+                testTask.configure {
+                    shouldRunAfter(tasks.test)
+                    systemProperties(System.getProperties().filterKeys { it.toString().startsWith("loadtest.") }
+                        .mapKeys { it.key.toString() })
+                    outputs.upToDateWhen { false }
+                }
+            }
+        }
+
+        // Tests of src/reactive; they share the test profile configuration with the servlet tests
+        register<JvmTestSuite>("reactiveTest") {
+            useJUnitJupiter()
+            sources {
+                resources.srcDir("src/test/resources")
+            }
+            dependencies {
+                implementation(project())
+                implementation("org.springframework.boot:spring-boot-starter-test")
+            }
+            targets.all {
+                testTask.configure {
+                    shouldRunAfter(tasks.test)
+                }
+            }
+        }
+    }
+}
+
+configurations["loadTestImplementation"].extendsFrom(configurations.implementation.get())
+configurations["loadTestRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
+
+// The load tests also compare the servlet stack with the reactive profile; reactiveTest tests src/reactive
+configurations["loadTestImplementation"].extendsFrom(reactiveStack)
+configurations["loadTestRuntimeOnly"].extendsFrom(reactiveDrivers)
+configurations["reactiveTestImplementation"].extendsFrom(configurations[reactive.implementationConfigurationName])
+configurations["reactiveTestRuntimeOnly"].extendsFrom(configurations[reactive.runtimeOnlyConfigurationName])
+dependencies {
+    "loadTestImplementation"(reactive.output)
+    "reactiveTestImplementation"(reactive.output)
+}
+
+// Spring AOT processing (processAot, processTestAot) is opt-in with -Paot. It evaluates @Profile and
+// @Conditional beans at build time, so the resulting jar only fits the configuration it was processed with;
+// run it with -Dspring.aot.enabled=true.
+if (providers.gradleProperty("aot").isPresent) {
+    apply(plugin = "org.springframework.boot.aot")
+}
+
+// The integration tests must also pass with the "startup" profile (lazy initialization, deferred JPA bootstrap)
+val testStartupProfile by tasks.registering(Test::class) {
+    description = "Runs the tests with the startup profile included."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    systemProperty("spring.profiles.include", "startup")
+    useJUnitPlatform {
+        excludeTags("large")
+    }
+    shouldRunAfter(tasks.test)
+}
+
+tasks.check {
+    dependsOn(testStartupProfile, testing.suites.named("reactiveTest"))
+}
+
+// AppCDS: the boot jar is extracted into an application jar with its dependencies under lib/,
+// a training run that exits once the application is ready dumps the loaded classes into an archive,
+// and startupReport compares time-to-ready with and without it.
+val java21 = javaToolchains.launcherFor { languageVersion = JavaLanguageVersion.of(21) }
+val cdsDir = layout.buildDirectory.dir("cds")
+val cdsArchiveFile = cdsDir.map { it.file("application.jsa") }
+val extractedJar = cdsDir.zip(tasks.bootJar.flatMap { it.archiveFileName }) { dir, name -> dir.file("app/$name") }
+
+val extractBootJar by tasks.registering(Exec::class) {
+    description = "Extracts the boot jar into the layout used for AppCDS."
+    group = "build"
+    inputs.file(tasks.bootJar.flatMap { it.archiveFile })
+    outputs.dir(cdsDir.map { it.dir("app") })
+    doFirst {
+        executable = java21.get().executablePath.asFile.absolutePath
+        args("-Djarmode=tools", "-jar", tasks.bootJar.get().archiveFile.get().asFile.absolutePath,
+            "extract", "--force", "--destination", cdsDir.get().dir("app").asFile.absolutePath)
+    }
+}
+
+val cdsArchive by tasks.registering(Exec::class) {
+    description = "Creates the AppCDS archive from a training run of the extracted application."
+    group = "build"
+    dependsOn(extractBootJar)
+    inputs.dir(cdsDir.map { it.dir("app") })
+    outputs.file(cdsArchiveFile)
+    doFirst {
+        executable = java21.get().executablePath.asFile.absolutePath
+        args("-XX:ArchiveClassesAtExit=${cdsArchiveFile.get().asFile.absolutePath}",
+            "-Ddemo.startup.exit-on-ready=true", "-jar", extractedJar.get().asFile.absolutePath)
+    }
+}
+
+val startupReport by tasks.registering {
+    description = "Measures time-to-ready for each startup configuration (-PstartupRuns=N, default 3)."
+    group = "verification"
+    dependsOn(cdsArchive)
+    val report = layout.buildDirectory.file("reports/startup.txt")
+    val runs = providers.gradleProperty("startupRuns").map { it.toInt() }.orElse(3)
+    val aot = providers.gradleProperty("aot").isPresent
+    outputs.file(report)
+    outputs.upToDateWhen { false }
+    doLast {
+        val java = java21.get().executablePath.asFile.absolutePath
+        val cds = "-XX:SharedArchiveFile=${cdsArchiveFile.get().asFile.absolutePath}"
+        val lazy = "-Dspring.profiles.active=startup"
+        val variants = linkedMapOf(
+            "baseline" to listOf(),
+            "startup profile" to listOf(lazy),
+            "appcds" to listOf(cds),
+            "appcds + startup profile" to listOf(cds, lazy))
+        if (aot) {
+            variants["aot"] = listOf("-Dspring.aot.enabled=true")
+            variants["appcds + aot"] = listOf(cds, "-Dspring.aot.enabled=true")
+        }
+        val readyLine = Regex("Time to ready: (\\d+) ms")
+        val lines = variants.map { (name, jvmArgs) ->
+            val times = (1..runs.get()).map {
+                val command = listOf(java) + jvmArgs +
+                    listOf("-Ddemo.startup.exit-on-ready=true", "-jar", extractedJar.get().asFile.absolutePath)
+                val process = ProcessBuilder(command).redirectErrorStream(true).start()
+                val output = process.inputStream.bufferedReader().readText()
+                check(process.waitFor() == 0) { "Startup run '$name' failed:\n$output" }
+                readyLine.find(output)?.groupValues?.get(1)?.toLong()
+                    ?: error("Startup run '$name' did not report its time to ready:\n$output")
+            }.sorted()
+            "%-26s median %6d ms   runs %s".format(name, times[times.size / 2], times)
+        }
+        report.get().asFile.writeText(lines.joinToString("\n", postfix = "\n"))
+        lines.forEach { logger.lifecycle(it) }
+    }
+}
+
+// JMH benchmarks under src/jmh. Select benchmarks with -PjmhIncludes=<regex>; results, including the gc profiler's
+// allocation rates, are written as JSON. jmhSaveBaseline keeps a run under src/jmh/baselines/<-Pbaseline>.json
+// and jmhCompare reports the latest run against it.
+jmh {
+    jmhVersion = "1.37"
+    includes = providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(listOf())
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+}
+
+val jmhResults = layout.buildDirectory.file("reports/jmh/results.json")
+val jmhBaseline = providers.gradleProperty("baseline").orElse("latest")
+    .map { layout.projectDirectory.file("src/jmh/baselines/$it.json") }
+
+val jmhSaveBaseline by tasks.registering(Copy::class) {
+    description = "Saves the latest JMH results as a baseline (-Pbaseline=name, default latest)."
+    group = "benchmark"
+    from(jmhResults)
+    into(jmhBaseline.map { it.asFile.parentFile })
+    rename { jmhBaseline.get().asFile.name }
+}
+
+val jmhCompare by tasks.registering {
+    description = "Compares the latest JMH results with a saved baseline (-Pbaseline=name, default latest)."
+    group = "benchmark"
+    val report = layout.buildDirectory.file("reports/jmh/comparison.txt")
+    outputs.file(report)
+    outputs.upToDateWhen { false }
+    doLast {
+        fun load(file: File): Map<String, Pair<Double, Double?>> {
+            check(file.isFile) { "No JMH results at $file" }
+            @Suppress("UNCHECKED_CAST")
+            val runs = groovy.json.JsonSlurper().parse(file) as List<Map<String, Any?>>
+            return runs.associate { run ->
+                val params = (run["params"] as Map<*, *>?)?.entries?.joinToString(",", "(", ")") { "${it.key}=${it.value}" } ?: ""
+                val primary = run["primaryMetric"] as Map<*, *>
+                val secondary = run["secondaryMetrics"] as Map<*, *>? ?: mapOf<String, Any>()
+                val alloc = secondary.entries.firstOrNull { it.key.toString().endsWith("gc.alloc.rate.norm") }?.value as Map<*, *>?
+                "${run["benchmark"]}$params (${primary["scoreUnit"]})" to
+                    Pair((primary["score"] as Number).toDouble(), (alloc?.get("score") as Number?)?.toDouble())
+            }
+        }
+        val baseline = load(jmhBaseline.get().asFile)
+        val current = load(jmhResults.get().asFile)
+        val lines = current.map { (name, result) ->
+            val before = baseline[name]
+            if (before == null) {
+                "%-100s %14.3f   (new)".format(name, result.first)
+            } else {
+                val change = (result.first - before.first) / before.first * 100
+                val alloc = if (result.second != null && before.second != null)
+                    "   alloc %.1f -> %.1f B/op".format(before.second, result.second) else ""
+                "%-100s %14.3f -> %14.3f  %+7.1f%%%s".format(name, before.first, result.first, change, alloc)
+            }
+        }
+        report.get().asFile.writeText(lines.joinToString("\n", postfix = "\n"))
+        lines.forEach { logger.lifecycle(it) }
+    }
+}
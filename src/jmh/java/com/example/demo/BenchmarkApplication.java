@@ -0,0 +1,36 @@
+package com.example.demo;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application for benchmarks that go through the database: in-memory H2 with a Hibernate-created
+ * schema, a random port, no warmup and quiet logging. Seeding follows demo.seed.count (zero unless overridden).
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * @param properties additional properties as {@code key=value}
+     * @return the running application
+     */
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(DemoApplication.class)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "server.port=0",
+                "ratelimit.enabled=false",
+                "demo.warmup.enabled=false",
+                "demo.seed.count=0",
+                "logging.level.com.example.demo=WARN")
+            .properties(properties)
+            .run();
+    }
+}
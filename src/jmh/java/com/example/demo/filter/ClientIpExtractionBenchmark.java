@@ -0,0 +1,51 @@
+package com.example.demo.filter;
+
+import com.example.demo.config.RateLimitProperties;
+import com.example.demo.ratelimit.RateLimitService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link RateLimitFilter#extractClientIp} without a proxy header, behind one proxy and behind
+ * a chain of proxies.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ClientIpExtractionBenchmark {
+
+    @Param({"none", "single", "chain"})
+    public String forwardedFor;
+
+    private RateLimitFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        filter = new RateLimitFilter(new RateLimitService(properties), properties, new ObjectMapper());
+        request = new MockHttpServletRequest("GET", "/api/items");
+        request.setRemoteAddr("10.1.2.3");
+        switch (forwardedFor) {
+            case "single" -> request.addHeader("X-Forwarded-For", "203.0.113.7");
+            case "chain" -> request.addHeader("X-Forwarded-For", "203.0.113.7, 198.51.100.4, 10.0.0.12, 10.0.0.1");
+            default -> { }
+        }
+    }
+
+    @Benchmark
+    public String extractClientIp() {
+        return filter.extractClientIp(request);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.json;
+
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.dto.PageResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding cost of an item page in each response format the API negotiates: JSON, JSON gzip-compressed
+ * as Tomcat does for responses over the compression threshold, CBOR and Smile. The encoded size of
+ * each format is printed when the trial starts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ContentFormatBenchmark {
+
+    @Param({"json", "json-gzip", "cbor", "smile"})
+    public String format;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+    private boolean gzip;
+    private PageResponse<ItemSummary> page;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        SimpleModule serializers = new SimpleModule();
+        serializers.addSerializer(new PageResponseSerializer());
+        serializers.addSerializer(new ItemSummarySerializer());
+        writer = new ObjectMapper(factory).registerModule(new BlackbirdModule()).registerModule(serializers)
+            .writer();
+        gzip = format.equals("json-gzip");
+
+        List<ItemSummary> content = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            content.add(new ItemSummary(id, "Item " + id, "Description for item " + id));
+        }
+        page = PageResponse.from(new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000));
+        System.out.printf("%n%s, page size %d: %d bytes%n", format, pageSize, encode().length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+        if (gzip) {
+            try (OutputStream out = new GZIPOutputStream(bytes)) {
+                writer.writeValue(out, page);
+            }
+        } else {
+            writer.writeValue(bytes, page);
+        }
+        return bytes.toByteArray();
+    }
+}
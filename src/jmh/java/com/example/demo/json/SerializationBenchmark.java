@@ -0,0 +1,74 @@
+package com.example.demo.json;
+
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.dto.PageResponse;
+import com.example.demo.ratelimit.RateLimitResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of the 429 body written by {@code RateLimitFilter}, and of item pages: through the
+ * application's serializers and, for comparison, through Blackbird's generated bean serializers alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectWriter rateLimitResponseWriter;
+    private ObjectMapper applicationMapper;
+    private ObjectMapper blackbirdMapper;
+    private PageResponse<ItemSummary> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleModule serializers = new SimpleModule();
+        serializers.addSerializer(new PageResponseSerializer());
+        serializers.addSerializer(new ItemSummarySerializer());
+        applicationMapper = new ObjectMapper().registerModule(new BlackbirdModule()).registerModule(serializers);
+        blackbirdMapper = new ObjectMapper().registerModule(new BlackbirdModule());
+        rateLimitResponseWriter = applicationMapper.writerFor(RateLimitResponse.class);
+
+        List<ItemSummary> content = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            content.add(new ItemSummary(id, "Item " + id, "Description for item " + id));
+        }
+        page = PageResponse.from(new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000));
+    }
+
+    @Benchmark
+    public byte[] rateLimitResponse() throws JsonProcessingException {
+        return rateLimitResponseWriter.writeValueAsBytes(RateLimitResponse.tooManyRequests(42));
+    }
+
+    @Benchmark
+    public byte[] itemPage() throws JsonProcessingException {
+        return applicationMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] itemPage_blackbirdOnly() throws JsonProcessingException {
+        return blackbirdMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.demo.latency;
+
+import com.example.demo.config.LatencyProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request overhead of latency recording; the budget is 100 ns and no allocation. The record benchmarks
+ * time {@link RouteLatencyRecorder#record} on an existing series alone. The filter benchmarks run a request
+ * through {@link LatencyRecordingFilter} to an empty chain, which adds the two nanoTime calls, the matched
+ * pattern lookup and {@code OncePerRequestFilter}'s already-filtered attribute; chainOnly is the same
+ * request without the filter, so the filter's cost is the difference. The window keeps rotating in the
+ * background, as in the application.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class LatencyRecordingBenchmark {
+
+    private static final String[] ROUTES = {"/api/items", "/api/items/{id}", "/api/items/search", "/api/test"};
+
+    private static final FilterChain EMPTY_CHAIN = (request, response) -> { };
+
+    private RouteLatencyRecorder recorder;
+    private LatencyRecordingFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LatencyProperties properties = new LatencyProperties();
+        properties.setWindow(Duration.ofSeconds(6));
+        recorder = new RouteLatencyRecorder(properties, new SimpleMeterRegistry());
+        for (String route : ROUTES) {
+            recorder.record(route, "GET", 200, 1);
+        }
+        recorder.start();
+        filter = new LatencyRecordingFilter(recorder);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        recorder.stop();
+    }
+
+    /**
+     * Per-thread request counter, standing in for varying routes and latencies.
+     */
+    @State(Scope.Thread)
+    public static class Requests {
+        private long n;
+
+        long next() {
+            return ++n;
+        }
+    }
+
+    /**
+     * Per-thread requests, one per route, as Spring MVC leaves them after handler mapping.
+     */
+    @State(Scope.Thread)
+    public static class Exchanges {
+        private final MockHttpServletRequest[] requests = new MockHttpServletRequest[ROUTES.length];
+        private final MockHttpServletResponse response = new MockHttpServletResponse();
+        private int n;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            for (int i = 0; i < ROUTES.length; i++) {
+                requests[i] = new MockHttpServletRequest("GET", ROUTES[i]);
+                requests[i].setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTES[i]);
+            }
+        }
+
+        MockHttpServletRequest next() {
+            return requests[n++ & 3];
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void chainOnly_1Thread(Exchanges exchanges) throws Exception {
+        EMPTY_CHAIN.doFilter(exchanges.next(), exchanges.response);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void filter_1Thread(Exchanges exchanges) throws Exception {
+        filter.doFilter(exchanges.next(), exchanges.response, EMPTY_CHAIN);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void filter_8Threads(Exchanges exchanges) throws Exception {
+        filter.doFilter(exchanges.next(), exchanges.response, EMPTY_CHAIN);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void record_1Thread(Requests requests) {
+        record(requests.next());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void record_8Threads(Requests requests) {
+        record(requests.next());
+    }
+
+    private void record(long n) {
+        recorder.record(ROUTES[(int) (n & 3)], "GET", 200, 250_000 + (n & 0xffff) * 100);
+    }
+}
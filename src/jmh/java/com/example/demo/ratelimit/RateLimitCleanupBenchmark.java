@@ -0,0 +1,64 @@
+package com.example.demo.ratelimit;
+
+import com.example.demo.config.RateLimitProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@link RateLimitService#cleanupExpiredEntries} pass over 1M tracked clients, either all expired
+ * (every entry is removed) or all live (the pass only scans).
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@State(Scope.Benchmark)
+public class RateLimitCleanupBenchmark {
+
+    static final int ENTRIES = 1_000_000;
+
+    @Param({"true", "false"})
+    public boolean expired;
+
+    private String[] keys;
+    private RateLimitService rateLimitService;
+
+    @Setup(Level.Trial)
+    public void createKeys() {
+        keys = new String[ENTRIES];
+        for (int i = 0; i < ENTRIES; i++) {
+            keys[i] = "10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void fill() throws InterruptedException {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRequestsPerMinute(Integer.MAX_VALUE);
+        properties.setWindowDurationMs(expired ? 1 : TimeUnit.HOURS.toMillis(1));
+        rateLimitService = new RateLimitService(properties);
+        for (String key : keys) {
+            rateLimitService.isAllowed(key);
+        }
+        if (expired) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Benchmark
+    public RateLimitService cleanupExpiredEntries() {
+        rateLimitService.cleanupExpiredEntries();
+        return rateLimitService;
+    }
+}
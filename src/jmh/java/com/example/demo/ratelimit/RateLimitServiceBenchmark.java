@@ -0,0 +1,96 @@
+package com.example.demo.ratelimit;
+
+import com.example.demo.config.RateLimitProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link RateLimitService#isAllowed} when every thread hits the same client key, and when
+ * threads spread over many keys, at 1, 8 and 64 threads. The limit is never reached, so the
+ * measurements cover the counter lookup and increment, not the rejection path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RateLimitServiceBenchmark {
+
+    static final int KEYS = 65_536;
+
+    private RateLimitService rateLimitService;
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRequestsPerMinute(Integer.MAX_VALUE);
+        properties.setWindowDurationMs(TimeUnit.HOURS.toMillis(1));
+        rateLimitService = new RateLimitService(properties);
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff);
+        }
+    }
+
+    /**
+     * Per-thread position in the key array, so threads walk different keys.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            next = (int) (Thread.currentThread().threadId() * 7919) & (KEYS - 1);
+        }
+
+        int next() {
+            next = (next + 1) & (KEYS - 1);
+            return next;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean singleKey_1Thread() {
+        return rateLimitService.isAllowed("10.0.0.1");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean singleKey_8Threads() {
+        return rateLimitService.isAllowed("10.0.0.1");
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean singleKey_64Threads() {
+        return rateLimitService.isAllowed("10.0.0.1");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean manyKeys_1Thread(Cursor cursor) {
+        return rateLimitService.isAllowed(keys[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean manyKeys_8Threads(Cursor cursor) {
+        return rateLimitService.isAllowed(keys[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean manyKeys_64Threads(Cursor cursor) {
+        return rateLimitService.isAllowed(keys[cursor.next()]);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.repository;
+
+import com.example.demo.BenchmarkApplication;
+import com.example.demo.dto.ItemSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency and allocation of loading a page of item summaries by constructor projection
+ * ({@link ItemRepository#findSummaries}) against loading managed entities and mapping them, the listing's
+ * previous read path. The query cache is disabled so both go to the database; pages rotate over
+ * the seeded catalog.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ItemPageQueryBenchmark {
+
+    static final int ITEMS = 10_000;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private ItemRepository itemRepository;
+    private int pages;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(
+            "demo.seed.count=" + ITEMS,
+            "spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        itemRepository = context.getBean(ItemRepository.class);
+        pages = ITEMS / pageSize;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ItemSummary> projection() {
+        return itemRepository.findSummaries(nextPage());
+    }
+
+    @Benchmark
+    public Page<ItemSummary> entities() {
+        return itemRepository.findAll(nextPage().withSort(Sort.by("id"))).map(ItemSummary::from);
+    }
+
+    private PageRequest nextPage() {
+        next = (next + 1) % pages;
+        return PageRequest.of(next, pageSize);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.search;
+
+import com.example.demo.config.SearchProperties;
+import com.example.demo.config.SeedProperties;
+import com.example.demo.entity.Item;
+import com.example.demo.service.ItemSeeder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of {@link ItemSearchIndex#search} over 100k and 1M items generated by {@link ItemSeeder}, the
+ * catalog size the index is meant to answer in under a millisecond. With the seeder's default description
+ * length every item is "Item n" / "Description for item n", so "item" and "description" match every item and
+ * every number is a term of its own; padded descriptions add random filler words. Queries cover a term in
+ * every item, one-character prefixes (the most expansions), a short number prefix and two-term conjunctions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ItemSearchBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int items;
+
+    @Param({"0", "255"})
+    public int descriptionMaxLength;
+
+    @Param({"item", "i", "d", "42", "item 4242", "description item"})
+    public String query;
+
+    private ItemSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SeedProperties seed = new SeedProperties();
+        seed.setCount(items);
+        seed.setDescriptionMinLength(Math.min(64, descriptionMaxLength));
+        seed.setDescriptionMaxLength(descriptionMaxLength);
+        seed.setSizeDistribution(SeedProperties.SizeDistribution.LONG_TAIL);
+        ItemSeeder seeder = new ItemSeeder(null, null, null, seed);
+
+        index = new ItemSearchIndex(new SearchProperties());
+        long id = 0;
+        for (long batch = 0; batch * seed.getBatchSize() < items; batch++) {
+            for (Item item : seeder.generateBatch(batch)) {
+                index.index(++id, item.getName(), item.getDescription(), id, false);
+            }
+        }
+    }
+
+    @Benchmark
+    public ItemSearchIndex.SearchResult search() {
+        return index.search(query, 20);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.service;
+
+import com.example.demo.BenchmarkApplication;
+import com.example.demo.dto.ItemRequest;
+import com.example.demo.entity.Item;
+import com.example.demo.repository.ItemRepository;
+import com.example.demo.search.ItemSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Items inserted per second through {@link ItemBulkIngestService} at different chunk sizes, against
+ * one repository save per item, which is what creating items one request at a time costs.
+ * The table and the search index are emptied after every iteration.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BulkIngestBenchmark.ITEMS)
+@State(Scope.Benchmark)
+public class BulkIngestBenchmark {
+
+    static final int ITEMS = 5000;
+
+    @Param({"100", "1000"})
+    public int chunkSize;
+
+    private ConfigurableApplicationContext context;
+    private ItemBulkIngestService itemBulkIngestService;
+    private ItemRepository itemRepository;
+    private ItemSearchIndex itemSearchIndex;
+    private byte[] body;
+    private List<ItemRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkApplication.start("demo.bulk.chunk-size=" + chunkSize);
+        itemBulkIngestService = context.getBean(ItemBulkIngestService.class);
+        itemRepository = context.getBean(ItemRepository.class);
+        itemSearchIndex = context.getBean(ItemSearchIndex.class);
+
+        requests = new ArrayList<>(ITEMS);
+        for (int i = 1; i <= ITEMS; i++) {
+            requests.add(new ItemRequest("Item " + i, "Description for item " + i));
+        }
+        body = context.getBean(ObjectMapper.class).writeValueAsBytes(requests);
+    }
+
+    @TearDown(Level.Iteration)
+    public void emptyTable() {
+        itemRepository.deleteAllInBatch();
+        itemSearchIndex.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long bulkIngest() throws IOException {
+        return itemBulkIngestService.ingest(new ByteArrayInputStream(body)).inserted();
+    }
+
+    @Benchmark
+    public long saveIndividually() {
+        long inserted = 0;
+        for (ItemRequest request : requests) {
+            itemRepository.save(new Item(request.name(), request.description()));
+            inserted++;
+        }
+        return inserted;
+    }
+}
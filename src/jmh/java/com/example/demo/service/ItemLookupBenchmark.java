@@ -0,0 +1,82 @@
+package com.example.demo.service;
+
+import com.example.demo.BenchmarkApplication;
+import com.example.demo.dto.ItemBatchResponse;
+import com.example.demo.dto.ItemSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One multi-get of {@code ids} random items through {@link ItemLookupService#findByIds} against
+ * the same number of single lookups, each in its own transaction as separate requests would be.
+ * Runs with the second-level entity cache enabled and disabled; ids are drawn from the seeded catalog.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ItemLookupBenchmark {
+
+    static final int ITEMS = 10_000;
+
+    @Param({"10", "100", "500"})
+    public int ids;
+
+    @Param({"true", "false"})
+    public boolean entityCache;
+
+    private ConfigurableApplicationContext context;
+    private ItemLookupService itemLookupService;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(
+            "demo.seed.count=" + ITEMS,
+            "spring.jpa.properties.hibernate.cache.use_second_level_cache=" + entityCache,
+            "spring.jpa.properties.hibernate.cache.use_query_cache=" + entityCache);
+        itemLookupService = context.getBean(ItemLookupService.class);
+        random = new SplittableRandom(42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ItemBatchResponse multiGet() {
+        return itemLookupService.findByIds(randomIds());
+    }
+
+    @Benchmark
+    public List<ItemSummary> singleLookups() {
+        List<Long> requested = randomIds();
+        List<ItemSummary> found = new ArrayList<>(requested.size());
+        for (Long id : requested) {
+            found.add(itemLookupService.findById(id));
+        }
+        return found;
+    }
+
+    private List<Long> randomIds() {
+        List<Long> requested = new ArrayList<>(ids);
+        for (int i = 0; i < ids; i++) {
+            requested.add(random.nextLong(1, ITEMS + 1));
+        }
+        return requested;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.load;
+
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the running application over HTTP at a constant arrival rate and checks the latency
+ * distribution and throughput against {@link LoadSlo}s. Each scenario first runs briefly at the same
+ * rate without recording, so the client side is warm too.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class ItemsLoadTest {
+
+    private static final Path REPORT_DIRECTORY = Path.of("build", "reports", "loadTest");
+    private static final Duration CLIENT_WARMUP = Duration.ofSeconds(2);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private OpenModelLoadGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new OpenModelLoadGenerator(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void listItems() throws Exception {
+        run("items", new LoadSlo(200, Duration.ofSeconds(10), Duration.ofMillis(20), Duration.ofMillis(100),
+            Duration.ofMillis(250), 180), n -> uri("/api/items?page=" + (n % 50) + "&size=20"));
+    }
+
+    @Test
+    void getItemById() throws Exception {
+        List<Long> ids = itemRepository.findSummaries(PageRequest.of(0, 1000)).map(ItemSummary::id).getContent();
+        assertThat(ids).isNotEmpty();
+
+        run("item", new LoadSlo(500, Duration.ofSeconds(10), Duration.ofMillis(10), Duration.ofMillis(50),
+            Duration.ofMillis(150), 450), n -> uri("/api/items/" + ids.get((int) (n % ids.size()))));
+    }
+
+    @Test
+    void testEndpoint() throws Exception {
+        run("test", new LoadSlo(1000, Duration.ofSeconds(10), Duration.ofMillis(5), Duration.ofMillis(25),
+            Duration.ofMillis(100), 900), n -> uri("/api/test"));
+    }
+
+    private void run(String scenario, LoadSlo defaults, LongFunction<URI> uris) throws Exception {
+        LoadSlo slo = LoadSlo.forScenario(scenario, defaults);
+        generator.run(scenario + "-warmup", slo.rate(), CLIENT_WARMUP, uris);
+
+        LoadResult result = generator.run(scenario, slo.rate(), slo.duration(), uris);
+        result.report(System.out, REPORT_DIRECTORY);
+
+        assertThat(result.violations(slo)).isEmpty();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.demo.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of one load test scenario.
+ * @param elapsed time from the first scheduled request until the last response
+ * @param maxGeneratorLag how far the generator fell behind its schedule at worst; a large lag means the
+ *                        client, not the server, limited the offered load
+ * @param responseTimes nanoseconds from the scheduled start to the response
+ * @param serviceTimes nanoseconds from sending the request to the response
+ */
+public record LoadResult(
+    String name,
+    double offeredRate,
+    Duration elapsed,
+    long succeeded,
+    long failed,
+    Duration maxGeneratorLag,
+    Histogram responseTimes,
+    Histogram serviceTimes
+) {
+
+    public Duration percentile(double percentile) {
+        return Duration.ofNanos(responseTimes.getValueAtPercentile(percentile));
+    }
+
+    /**
+     * @return successful responses per second
+     */
+    public double throughput() {
+        return succeeded * 1_000_000_000.0 / elapsed.toNanos();
+    }
+
+    /**
+     * @return a description of every objective the result misses; empty when all are met
+     */
+    public List<String> violations(LoadSlo slo) {
+        List<String> violations = new ArrayList<>();
+        check(violations, "p50", percentile(50), slo.p50());
+        check(violations, "p99", percentile(99), slo.p99());
+        check(violations, "p99.9", percentile(99.9), slo.p999());
+        if (throughput() < slo.throughput()) {
+            violations.add(String.format("%s: throughput %.1f/s below %.1f/s", name, throughput(), slo.throughput()));
+        }
+        if (failed > 0) {
+            violations.add(name + ": " + failed + " failed requests");
+        }
+        return violations;
+    }
+
+    /**
+     * Print a summary and write both distributions as .hgrm files, which HdrHistogram's plotter reads.
+     */
+    public void report(PrintStream out, Path directory) throws IOException {
+        out.printf("%s: offered %.1f/s, achieved %.1f/s, %d ok, %d failed, max generator lag %d ms%n",
+            name, offeredRate, throughput(), succeeded, failed, maxGeneratorLag.toMillis());
+        out.printf("  response time  p50 %.2f ms  p99 %.2f ms  p99.9 %.2f ms  max %.2f ms%n",
+            millis(responseTimes, 50), millis(responseTimes, 99), millis(responseTimes, 99.9),
+            responseTimes.getMaxValue() / 1e6);
+        out.printf("  service time   p50 %.2f ms  p99 %.2f ms  p99.9 %.2f ms  max %.2f ms%n",
+            millis(serviceTimes, 50), millis(serviceTimes, 99), millis(serviceTimes, 99.9),
+            serviceTimes.getMaxValue() / 1e6);
+
+        Files.createDirectories(directory);
+        write(responseTimes, directory.resolve(name + "-response.hgrm"));
+        write(serviceTimes, directory.resolve(name + "-service.hgrm"));
+    }
+
+    private void check(List<String> violations, String label, Duration actual, Duration objective) {
+        if (actual.compareTo(objective) > 0) {
+            violations.add(String.format("%s: %s %.2f ms above %d ms", name, label, actual.toNanos() / 1e6,
+                objective.toMillis()));
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1e6;
+    }
+
+    private static void write(Histogram histogram, Path file) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.load;
+
+import java.time.Duration;
+
+/**
+ * Service level objectives checked against a load test result. Each value can be overridden with the system
+ * property {@code loadtest.<scenario>.<name>}: {@code rate} and {@code duration} shape the load, {@code p50},
+ * {@code p99}, {@code p999} bound the response time percentiles and {@code throughput} is the minimum rate
+ * of successful responses per second.
+ */
+public record LoadSlo(
+    double rate,
+    Duration duration,
+    Duration p50,
+    Duration p99,
+    Duration p999,
+    double throughput
+) {
+
+    /**
+     * @param scenario the scenario name used in the property keys
+     * @param defaults the values used for properties that are not set
+     */
+    public static LoadSlo forScenario(String scenario, LoadSlo defaults) {
+        String prefix = "loadtest." + scenario + ".";
+        return new LoadSlo(
+            Double.parseDouble(System.getProperty(prefix + "rate", String.valueOf(defaults.rate))),
+            duration(prefix + "duration", defaults.duration),
+            duration(prefix + "p50", defaults.p50),
+            duration(prefix + "p99", defaults.p99),
+            duration(prefix + "p999", defaults.p999),
+            Double.parseDouble(System.getProperty(prefix + "throughput", String.valueOf(defaults.throughput))));
+    }
+
+    /**
+     * Parse durations written as {@code 250ms}, {@code 2s} or ISO-8601.
+     */
+    private static Duration duration(String key, Duration defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.parse(value);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+/**
+ * Open-model load generator: requests are started at a constant arrival rate whether or not earlier
+ * requests have completed, each on its own virtual thread.
+ * <p>
+ * Response times are measured from the time a request was scheduled to start, not from when it was actually
+ * sent. When the server or the generator falls behind, the queueing delay is therefore counted instead of
+ * silently omitted (coordinated omission). Service time, from send to response, is recorded separately.
+ */
+public class OpenModelLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+
+    public OpenModelLoadGenerator(Duration requestTimeout) {
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(requestTimeout)
+            .build();
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Run one scenario.
+     * @param name the scenario name, for the report
+     * @param ratePerSecond requests started per second
+     * @param duration how long requests are started for; in-flight requests are awaited afterwards
+     * @param uris the URI of the n-th request
+     * @return the recorded result
+     */
+    public LoadResult run(String name, double ratePerSecond, Duration duration, LongFunction<URI> uris)
+            throws InterruptedException {
+        Histogram responseTimes = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        Histogram serviceTimes = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long total = (long) (ratePerSecond * duration.toNanos() / TimeUnit.SECONDS.toNanos(1));
+        long maxLagNanos = 0;
+
+        long startNanos = System.nanoTime();
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long n = 0; n < total; n++) {
+                long intendedStart = startNanos + n * intervalNanos;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else {
+                    maxLagNanos = Math.max(maxLagNanos, -wait);
+                }
+                HttpRequest request = HttpRequest.newBuilder(uris.apply(n)).timeout(requestTimeout).GET().build();
+                requests.execute(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        long done = System.nanoTime();
+                        record(responseTimes, done - intendedStart);
+                        record(serviceTimes, done - sent);
+                        if (response.statusCode() < 400) {
+                            succeeded.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        record(responseTimes, System.nanoTime() - intendedStart);
+                        failed.incrementAndGet();
+                    }
+                });
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        return new LoadResult(name, ratePerSecond, elapsed, succeeded.get(), failed.get(),
+            Duration.ofNanos(maxLagNanos), responseTimes, serviceTimes);
+    }
+
+    private static void record(Histogram histogram, long nanos) {
+        histogram.recordValue(Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.load;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.repository.ItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Offers the same load to the item read endpoints on the servlet stack and on the reactive profile
+ * (WebFlux on Netty, R2DBC reads) and reports throughput and response time percentiles side by side in
+ * {@code build/reports/loadTest/web-stack-comparison.txt}. Each stack runs in its own application on its own
+ * in-memory database, started one after the other. Both must meet the {@link LoadSlo}s, which are read from
+ * {@code loadtest.stack-items.*} and {@code loadtest.stack-item.*}.
+ */
+class WebStackComparisonLoadTest {
+
+    private static final Path REPORT_DIRECTORY = Path.of("build", "reports", "loadTest");
+    private static final Duration CLIENT_WARMUP = Duration.ofSeconds(2);
+
+    private static final LoadSlo ITEMS = LoadSlo.forScenario("stack-items", new LoadSlo(200, Duration.ofSeconds(10),
+        Duration.ofMillis(20), Duration.ofMillis(100), Duration.ofMillis(250), 180));
+    private static final LoadSlo ITEM = LoadSlo.forScenario("stack-item", new LoadSlo(500, Duration.ofSeconds(10),
+        Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(150), 450));
+
+    private final OpenModelLoadGenerator generator = new OpenModelLoadGenerator(Duration.ofSeconds(5));
+
+    @Test
+    void compareServletAndReactiveStacks() throws Exception {
+        List<LoadResult> results = new ArrayList<>();
+        results.addAll(runStack("servlet"));
+        results.addAll(runStack("reactive"));
+
+        report(results);
+
+        List<String> violations = new ArrayList<>();
+        for (LoadResult result : results) {
+            violations.addAll(result.violations(result.name().endsWith("-items") ? ITEMS : ITEM));
+        }
+        assertThat(violations).isEmpty();
+    }
+
+    private List<LoadResult> runStack(String stack) throws Exception {
+        boolean reactive = stack.equals("reactive");
+        String database = "stack-" + stack;
+        List<String> args = new ArrayList<>(List.of(
+            "--spring.profiles.active=loadtest" + (reactive ? ",reactive" : ""),
+            "--spring.main.web-application-type=" + stack,
+            "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+            "--server.port=0"));
+        if (reactive) {
+            args.add("--spring.r2dbc.url=r2dbc:h2:mem:///" + database + "?options=DB_CLOSE_DELAY=-1");
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .run(args.toArray(String[]::new))) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            List<Long> ids = context.getBean(ItemRepository.class).findSummaries(PageRequest.of(0, 1000))
+                .map(ItemSummary::id).getContent();
+            assertThat(ids).isNotEmpty();
+
+            return List.of(
+                run(stack + "-items", ITEMS, n -> uri(port, "/api/items?page=" + (n % 50) + "&size=20")),
+                run(stack + "-item", ITEM, n -> uri(port, "/api/items/" + ids.get((int) (n % ids.size())))));
+        }
+    }
+
+    private LoadResult run(String name, LoadSlo slo, LongFunction<URI> uris) throws Exception {
+        generator.run(name + "-warmup", slo.rate(), CLIENT_WARMUP, uris);
+
+        LoadResult result = generator.run(name, slo.rate(), slo.duration(), uris);
+        result.report(System.out, REPORT_DIRECTORY);
+        return result;
+    }
+
+    private static void report(List<LoadResult> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-16s %10s %11s %9s %9s %9s %9s", "run", "offered/s", "achieved/s",
+            "p50 ms", "p99 ms", "p99.9 ms", "failed"));
+        for (LoadResult result : results) {
+            lines.add(String.format("%-16s %10.1f %11.1f %9.2f %9.2f %9.2f %9d", result.name(), result.offeredRate(),
+                result.throughput(), millis(result.percentile(50)), millis(result.percentile(99)),
+                millis(result.percentile(99.9)), result.failed()));
+        }
+        lines.forEach(System.out::println);
+        Files.createDirectories(REPORT_DIRECTORY);
+        Files.write(REPORT_DIRECTORY.resolve("web-stack-comparison.txt"), lines);
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1e6;
+    }
+
+    private static URI uri(int port, String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
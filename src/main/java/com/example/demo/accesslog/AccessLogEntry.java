@@ -0,0 +1,13 @@
+package com.example.demo.accesslog;
+
+/**
+ * The fields logged for one HTTP request.
+ * @param timestamp epoch milliseconds at which the request completed
+ * @param route the route pattern Spring MVC matched, or {@code UNMATCHED}
+ * @param durationNanos time from entering the access log filter to leaving it
+ * @param clientKey the rate-limit key of the client, its remote address when not rate limited
+ * @param rateLimit {@code allowed} or {@code rejected}, null when the request was not rate limited
+ */
+public record AccessLogEntry(long timestamp, String method, String route, String path, int status,
+                             long durationNanos, String clientKey, String rateLimit) {
+}
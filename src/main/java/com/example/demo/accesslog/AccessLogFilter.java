@@ -0,0 +1,44 @@
+package com.example.demo.accesslog;
+
+import com.example.demo.filter.RateLimitFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Servlet filter that hands one {@link AccessLogEntry} per request to the {@link AccessLogWriter}. It runs
+ * outside the {@link RateLimitFilter}, so rejected requests are logged along with the decision.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final String UNMATCHED = "UNMATCHED";
+
+    private final AccessLogWriter writer;
+
+    public AccessLogFilter(AccessLogWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long duration = System.nanoTime() - start;
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Object clientKey = request.getAttribute(RateLimitFilter.CLIENT_KEY_ATTRIBUTE);
+            Object decision = request.getAttribute(RateLimitFilter.DECISION_ATTRIBUTE);
+            writer.log(new AccessLogEntry(System.currentTimeMillis(), request.getMethod(),
+                pattern != null ? pattern.toString() : UNMATCHED, request.getRequestURI(), response.getStatus(),
+                duration, clientKey != null ? clientKey.toString() : request.getRemoteAddr(),
+                decision != null ? decision.toString() : null));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.demo.accesslog;
+
+import com.example.demo.config.AccessLogProperties;
+import com.example.demo.writebehind.MpscRingBuffer;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Queues access log entries in a {@link MpscRingBuffer} and writes them as compact JSON lines from a single
+ * background thread, one batch at a time. {@link #log} never blocks: when the buffer is full the entry is
+ * dropped and counted according to the {@link AccessLogProperties.OverflowPolicy}.
+ * <p>
+ * Without a file, each line is logged as its own event on the {@code access-log} logger. The lines are only
+ * plain JSON if that logger's appender uses a message-only pattern such as {@code %msg%n}.
+ */
+public class AccessLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLogWriter.class);
+    private static final Logger accessLogger = LoggerFactory.getLogger("access-log");
+    private static final long SHUTDOWN_TIMEOUT_MS = 5_000;
+
+    private final MpscRingBuffer<AccessLogEntry> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final boolean reportDrops;
+    private final Path file;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final AtomicLong droppedSinceReport = new AtomicLong();
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Thread drainer;
+    private Writer fileWriter;
+    private volatile boolean running;
+
+    public AccessLogWriter(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        this.buffer = new MpscRingBuffer<>(properties.getCapacity());
+        this.batchSize = properties.getBatchSize();
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+        this.reportDrops = properties.getOverflowPolicy() == AccessLogProperties.OverflowPolicy.DROP_AND_REPORT;
+        this.file = properties.getFile();
+        this.written = entries(meterRegistry, "written");
+        this.dropped = entries(meterRegistry, "dropped");
+        this.failed = entries(meterRegistry, "failed");
+        Gauge.builder("accesslog.buffer.size", buffer, MpscRingBuffer::size)
+            .description("Access log entries waiting to be written")
+            .register(meterRegistry);
+        this.drainer = new Thread(this::runDrainer, "access-log-writer");
+        this.drainer.setDaemon(true);
+    }
+
+    public void start() throws IOException {
+        if (file != null) {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            fileWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        running = true;
+        drainer.start();
+        logger.info("Access log writing to {} with capacity {}, batch size {}, flush interval {} ms",
+            file != null ? file : "the access-log logger", buffer.capacity(), batchSize,
+            TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos));
+    }
+
+    public void stop() {
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (fileWriter != null) {
+            try {
+                fileWriter.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close access log {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * Queue an entry. Safe to call from any thread; never blocks.
+     * @return false if the entry was dropped
+     */
+    public boolean log(AccessLogEntry entry) {
+        if (!running || !buffer.offer(entry)) {
+            dropped.increment();
+            droppedSinceReport.incrementAndGet();
+            return false;
+        }
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(drainer);
+        }
+        return true;
+    }
+
+    private void runDrainer() {
+        List<AccessLogEntry> batch = new ArrayList<>(batchSize);
+        long batchStart = 0;
+        while (running || !buffer.isEmpty() || !batch.isEmpty()) {
+            boolean wasEmpty = batch.isEmpty();
+            int drained = buffer.drain(batch::add, batchSize - batch.size());
+            if (wasEmpty && drained > 0) {
+                batchStart = System.nanoTime();
+            }
+
+            long waited = System.nanoTime() - batchStart;
+            boolean due = !batch.isEmpty() && (batch.size() >= batchSize || waited >= flushIntervalNanos || !running);
+            if (due) {
+                write(batch);
+                batch.clear();
+            } else if (drained == 0) {
+                if (reportDrops && batch.isEmpty() && droppedSinceReport.get() > 0) {
+                    // Report drops during a lull rather than waiting for the next entry
+                    write(batch);
+                }
+                LockSupport.parkNanos(this, batch.isEmpty() ? flushIntervalNanos : flushIntervalNanos - waited);
+            }
+        }
+        if (reportDrops && droppedSinceReport.get() > 0) {
+            write(batch);
+        }
+    }
+
+    private void write(List<AccessLogEntry> batch) {
+        long droppedCount = reportDrops ? droppedSinceReport.getAndSet(0) : 0;
+        StringWriter lines = new StringWriter(batch.size() * 160 + 32);
+        try (JsonGenerator generator = jsonFactory.createGenerator(lines)) {
+            generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            if (droppedCount > 0) {
+                generator.writeStartObject();
+                generator.writeStringField("ts", Instant.now().toString());
+                generator.writeNumberField("dropped", droppedCount);
+                generator.writeEndObject();
+            }
+            for (AccessLogEntry entry : batch) {
+                writeEntry(generator, entry);
+            }
+        } catch (IOException e) {
+            // Only reachable through a bug in the entry mapping, a StringWriter does not fail
+            throw new IllegalStateException(e);
+        }
+        if (lines.getBuffer().isEmpty()) {
+            return;
+        }
+
+        if (fileWriter == null) {
+            // One event per line, so every line carries the logger's own pattern instead of only the first
+            // of a batch; JSON strings escape newlines, so splitting cannot cut an entry
+            for (String line : lines.toString().split("\n")) {
+                accessLogger.info(line);
+            }
+            written.increment(batch.size());
+            return;
+        }
+        try {
+            fileWriter.write(lines.toString());
+            fileWriter.write('\n');
+            fileWriter.flush();
+            written.increment(batch.size());
+        } catch (IOException e) {
+            failed.increment(batch.size());
+            logger.error("Failed to write {} entries to access log {}", batch.size(), file, e);
+        }
+    }
+
+    static void writeEntry(JsonGenerator generator, AccessLogEntry entry) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("ts", Instant.ofEpochMilli(entry.timestamp()).toString());
+        generator.writeStringField("method", entry.method());
+        generator.writeStringField("route", entry.route());
+        generator.writeStringField("path", entry.path());
+        generator.writeNumberField("status", entry.status());
+        generator.writeNumberField("durationUs", TimeUnit.NANOSECONDS.toMicros(entry.durationNanos()));
+        generator.writeStringField("client", entry.clientKey());
+        if (entry.rateLimit() != null) {
+            generator.writeStringField("rateLimit", entry.rateLimit());
+        }
+        generator.writeEndObject();
+    }
+
+    private static Counter entries(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("accesslog.entries")
+            .description("Access log entries by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.config;
+
+import com.example.demo.accesslog.AccessLogFilter;
+import com.example.demo.accesslog.AccessLogWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration for the asynchronous structured access log.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "demo.access-log", name = "enabled", havingValue = "true")
+public class AccessLogConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public AccessLogWriter accessLogWriter(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        return new AccessLogWriter(properties, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilterRegistration(AccessLogWriter accessLogWriter) {
+        FilterRegistrationBean<AccessLogFilter> registrationBean =
+            new FilterRegistrationBean<>(new AccessLogFilter(accessLogWriter));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registrationBean;
+    }
+}
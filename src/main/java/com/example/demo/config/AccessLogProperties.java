@@ -0,0 +1,114 @@
+package com.example.demo.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for the asynchronous structured access log.
+ */
+@ConfigurationProperties(prefix = "demo.access-log")
+@Validated
+public class AccessLogProperties {
+
+    /**
+     * What happens to an entry when the buffer is full. Request threads never wait in either case.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drop the entry and count it in {@code accesslog.entries{outcome=dropped}}.
+         */
+        DROP,
+        /**
+         * Drop and count the entry, and write a {@code {"dropped":n}} line into the access log
+         * so gaps are visible where they happened.
+         */
+        DROP_AND_REPORT
+    }
+
+    /**
+     * Write one JSON line per HTTP request.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of entries waiting to be written, rounded up to a power of two.
+     */
+    @Min(value = 2, message = "capacity must be at least 2")
+    @Max(value = 1048576, message = "capacity must not exceed 1048576")
+    private int capacity = 16384;
+
+    /**
+     * Maximum number of entries written per batch.
+     */
+    @Min(value = 1, message = "batch-size must be at least 1")
+    private int batchSize = 512;
+
+    /**
+     * Maximum time an entry waits for its batch to fill before it is written anyway.
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    @NotNull
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_AND_REPORT;
+
+    /**
+     * File the JSON lines are appended to; when unset they go to the {@code access-log} logger,
+     * one log event per line.
+     */
+    private Path file;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public void setFile(Path file) {
+        this.file = file;
+    }
+}
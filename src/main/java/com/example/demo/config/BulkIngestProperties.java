@@ -0,0 +1,29 @@
+package com.example.demo.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for bulk item ingestion.
+ */
+@ConfigurationProperties(prefix = "demo.bulk")
+@Validated
+public class BulkIngestProperties {
+
+    /**
+     * Number of items inserted and committed per transaction.
+     */
+    @Min(value = 1, message = "chunk-size must be at least 1")
+    @Max(value = 100000, message = "chunk-size must not exceed 100000")
+    private int chunkSize = 1000;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.demo.config;
 
-import com.example.demo.entity.Item;
-import com.example.demo.repository.ItemRepository;
+import com.example.demo.service.ItemSeeder;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,13 +11,7 @@ public class DataLoader {
 
     @Bean
     @Profile("!test")
-    CommandLineRunner loadSampleData(ItemRepository itemRepository) {
-        return args -> {
-            if (itemRepository.count() == 0) {
-                for (int i = 1; i <= 50; i++) {
-                    itemRepository.save(new Item("Item " + i, "Description for item " + i));
-                }
-            }
-        };
+    CommandLineRunner loadSampleData(ItemSeeder itemSeeder) {
+        return args -> itemSeeder.seedIfEmpty();
     }
 }
@@ -0,0 +1,18 @@
+package com.example.demo.config;
+
+import com.example.demo.diagnostics.FlightRecorderEndpoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for on-demand diagnostics. The application's JFR events are emitted unconditionally;
+ * they cost nothing unless a recording enables them.
+ */
+@Configuration
+public class DiagnosticsConfig {
+
+    @Bean
+    public FlightRecorderEndpoint flightRecorderEndpoint() {
+        return new FlightRecorderEndpoint();
+    }
+}
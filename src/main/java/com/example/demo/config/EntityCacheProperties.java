@@ -0,0 +1,82 @@
+package com.example.demo.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the Hibernate second-level cache regions.
+ */
+@ConfigurationProperties(prefix = "demo.cache")
+@Validated
+public class EntityCacheProperties {
+
+    /**
+     * Region holding {@code Item} entities by id.
+     */
+    @Valid
+    private Region item = new Region(10000, Duration.ofMinutes(10));
+
+    /**
+     * Region holding cached listing query results.
+     */
+    @Valid
+    private Region queryResults = new Region(1000, Duration.ofMinutes(5));
+
+    public static class Region {
+
+        /**
+         * Maximum number of entries before least recently used entries are evicted.
+         */
+        @Min(value = 1, message = "max-entries must be at least 1")
+        private long maxEntries;
+
+        /**
+         * Time after which an entry expires once written.
+         */
+        private Duration timeToLive;
+
+        public Region() {
+        }
+
+        public Region(long maxEntries, Duration timeToLive) {
+            this.maxEntries = maxEntries;
+            this.timeToLive = timeToLive;
+        }
+
+        public long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+
+    public Region getItem() {
+        return item;
+    }
+
+    public void setItem(Region item) {
+        this.item = item;
+    }
+
+    public Region getQueryResults() {
+        return queryResults;
+    }
+
+    public void setQueryResults(Region queryResults) {
+        this.queryResults = queryResults;
+    }
+}
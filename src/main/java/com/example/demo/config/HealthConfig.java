@@ -0,0 +1,54 @@
+package com.example.demo.config;
+
+import com.example.demo.health.HealthRefreshScheduler;
+import com.example.demo.health.PoolAwareDatabaseHealthIndicator;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
+import org.springframework.boot.actuate.autoconfigure.system.DiskSpaceHealthIndicatorProperties;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.boot.actuate.system.DiskSpaceHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Clock;
+
+/**
+ * Replaces the auto-configured "db" and "diskSpace" contributors with snapshots refreshed in the background,
+ * so health probes never wait on the database or the filesystem. The database check inspects the Hikari
+ * pool and probes on a dedicated connection rather than borrowing from the pool.
+ * With replica routing enabled, {@link ReadWriteRoutingConfig} registers the database contributors instead.
+ */
+@Configuration
+public class HealthConfig {
+
+    @Bean(destroyMethod = "stop")
+    public HealthRefreshScheduler healthRefreshScheduler(HealthRefreshProperties properties) {
+        return new HealthRefreshScheduler(properties, Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnEnabledHealthIndicator("db")
+    @ConditionalOnProperty(prefix = "demo.datasource.replica", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public HealthContributor dbHealthContributor(DataSource dataSource, MeterRegistry meterRegistry,
+                                                 HealthRefreshProperties properties,
+                                                 HealthRefreshScheduler healthRefreshScheduler) throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            return healthRefreshScheduler.register(new DataSourceHealthIndicator(dataSource));
+        }
+        return healthRefreshScheduler.register(new PoolAwareDatabaseHealthIndicator(
+            dataSource.unwrap(HikariDataSource.class), meterRegistry, properties.getDb()));
+    }
+
+    @Bean
+    @ConditionalOnEnabledHealthIndicator("diskspace")
+    public HealthContributor diskSpaceHealthIndicator(DiskSpaceHealthIndicatorProperties properties,
+                                                      HealthRefreshScheduler healthRefreshScheduler) {
+        return healthRefreshScheduler.register(
+            new DiskSpaceHealthIndicator(properties.getPath(), properties.getThreshold()));
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.demo.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for health checks refreshed in the background.
+ */
+@ConfigurationProperties(prefix = "demo.health")
+@Validated
+public class HealthRefreshProperties {
+
+    /**
+     * Time between the end of one check and the start of the next.
+     */
+    @NotNull
+    private Duration interval = Duration.ofSeconds(5);
+
+    /**
+     * Random extra delay added to each interval, so that checks of many instances do not line up.
+     */
+    @NotNull
+    private Duration jitter = Duration.ofSeconds(1);
+
+    /**
+     * A check running longer than this is reported as DOWN.
+     */
+    @NotNull
+    private Duration timeout = Duration.ofSeconds(2);
+
+    /**
+     * A snapshot older than this is reported as DOWN, e.g. when checks keep hanging.
+     */
+    @NotNull
+    private Duration stalenessBudget = Duration.ofSeconds(20);
+
+    @Valid
+    private Database db = new Database();
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Duration getJitter() {
+        return jitter;
+    }
+
+    public void setJitter(Duration jitter) {
+        this.jitter = jitter;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Duration getStalenessBudget() {
+        return stalenessBudget;
+    }
+
+    public void setStalenessBudget(Duration stalenessBudget) {
+        this.stalenessBudget = stalenessBudget;
+    }
+
+    public Database getDb() {
+        return db;
+    }
+
+    public void setDb(Database db) {
+        this.db = db;
+    }
+
+    /**
+     * Thresholds of the pool-aware database health indicator.
+     */
+    public static class Database {
+
+        /**
+         * Fraction of the pool in use at or above which the database is reported as DEGRADED.
+         */
+        @DecimalMin(value = "0.0", message = "degraded-saturation must be between 0 and 1")
+        @DecimalMax(value = "1.0", message = "degraded-saturation must be between 0 and 1")
+        private double degradedSaturation = 0.9;
+
+        /**
+         * 99th percentile connection acquire time at or above which the database is reported as DEGRADED.
+         */
+        @NotNull
+        private Duration degradedAcquireP99 = Duration.ofMillis(100);
+
+        /**
+         * Maximum time the probe query on the dedicated connection may take. A failed probe is retried once,
+         * so keep it under half of the check timeout.
+         */
+        @NotNull
+        private Duration probeTimeout = Duration.ofSeconds(1);
+
+        public double getDegradedSaturation() {
+            return degradedSaturation;
+        }
+
+        public void setDegradedSaturation(double degradedSaturation) {
+            this.degradedSaturation = degradedSaturation;
+        }
+
+        public Duration getDegradedAcquireP99() {
+            return degradedAcquireP99;
+        }
+
+        public void setDegradedAcquireP99(Duration degradedAcquireP99) {
+            this.degradedAcquireP99 = degradedAcquireP99;
+        }
+
+        public Duration getProbeTimeout() {
+            return probeTimeout;
+        }
+
+        public void setProbeTimeout(Duration probeTimeout) {
+            this.probeTimeout = probeTimeout;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.config;
+
+import com.example.demo.entity.Item;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.util.OptionalLong;
+
+/**
+ * Configuration for the in-process JCache provider backing Hibernate's second-level cache.
+ * Regions are created up front so their size and expiry follow {@link EntityCacheProperties}.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(EntityCacheProperties properties) {
+        // A dedicated provider instance keeps the manager private to this application context
+        CacheManager cacheManager = new CaffeineCachingProvider()
+            .getCacheManager(URI.create("demo-hibernate"), getClass().getClassLoader());
+
+        cacheManager.createCache(Item.class.getName(), regionConfiguration(properties.getItem()));
+        cacheManager.createCache(QUERY_RESULTS_REGION, regionConfiguration(properties.getQueryResults()));
+        // Update timestamps must outlive every cached query result, so this region is never expired or evicted
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private CaffeineConfiguration<Object, Object> regionConfiguration(EntityCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.getMaxEntries()));
+        if (region.getTimeToLive() != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getTimeToLive().toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
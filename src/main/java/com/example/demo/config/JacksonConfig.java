@@ -0,0 +1,20 @@
+package com.example.demo.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the application-wide Jackson {@code ObjectMapper}.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Replace reflective property access with generated lambdas for bean serialization.
+     */
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.config;
+
+import com.example.demo.latency.LatencyEndpoint;
+import com.example.demo.latency.LatencyRecordingFilter;
+import com.example.demo.latency.RouteLatencyRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration for per-route latency recording. The filter runs first, so time spent in the other
+ * filters, including rate-limit rejections, is part of the recorded latency.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "demo.latency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LatencyConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public RouteLatencyRecorder routeLatencyRecorder(LatencyProperties properties, MeterRegistry meterRegistry) {
+        return new RouteLatencyRecorder(properties, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<LatencyRecordingFilter> latencyRecordingFilterRegistration(
+            RouteLatencyRecorder routeLatencyRecorder) {
+        FilterRegistrationBean<LatencyRecordingFilter> registrationBean =
+            new FilterRegistrationBean<>(new LatencyRecordingFilter(routeLatencyRecorder));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registrationBean;
+    }
+
+    @Bean
+    public LatencyEndpoint latencyEndpoint(RouteLatencyRecorder routeLatencyRecorder, LatencyProperties properties) {
+        return new LatencyEndpoint(routeLatencyRecorder, properties);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the per-route latency histograms exposed at {@code /actuator/latency}.
+ */
+@ConfigurationProperties(prefix = "demo.latency")
+@Validated
+public class LatencyProperties {
+
+    /**
+     * Record request latency per route and status.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Time span the reported percentiles cover.
+     */
+    @NotNull
+    private Duration window = Duration.ofMinutes(1);
+
+    /**
+     * Number of slices the window is divided into; the window advances one slice at a time.
+     */
+    @Min(value = 1, message = "slices must be at least 1")
+    @Max(value = 60, message = "slices must not exceed 60")
+    private int slices = 6;
+
+    /**
+     * Longer latencies are recorded as this value.
+     */
+    @NotNull
+    private Duration highestTrackable = Duration.ofMinutes(1);
+
+    /**
+     * Precision of recorded values in significant decimal digits.
+     */
+    @Min(value = 1, message = "significant-digits must be at least 1")
+    @Max(value = 5, message = "significant-digits must not exceed 5")
+    private int significantDigits = 2;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public int getSlices() {
+        return slices;
+    }
+
+    public void setSlices(int slices) {
+        this.slices = slices;
+    }
+
+    public Duration getHighestTrackable() {
+        return highestTrackable;
+    }
+
+    public void setHighestTrackable(Duration highestTrackable) {
+        this.highestTrackable = highestTrackable;
+    }
+
+    public int getSignificantDigits() {
+        return significantDigits;
+    }
+
+    public void setSignificantDigits(int significantDigits) {
+        this.significantDigits = significantDigits;
+    }
+}
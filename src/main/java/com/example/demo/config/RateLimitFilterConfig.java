@@ -2,6 +2,8 @@ package com.example.demo.config;
 
 import com.example.demo.filter.RateLimitFilter;
 import com.example.demo.ratelimit.RateLimitService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,15 +12,17 @@ import org.springframework.context.annotation.Configuration;
  * Configuration for registering the rate limit filter.
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class RateLimitFilterConfig {
 
     @Bean
     public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(
             RateLimitService rateLimitService,
-            RateLimitProperties rateLimitProperties) {
+            RateLimitProperties rateLimitProperties,
+            ObjectMapper objectMapper) {
 
         FilterRegistrationBean<RateLimitFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new RateLimitFilter(rateLimitService, rateLimitProperties));
+        registrationBean.setFilter(new RateLimitFilter(rateLimitService, rateLimitProperties, objectMapper));
         registrationBean.addUrlPatterns("/api/*");
         registrationBean.setOrder(1);
 
@@ -0,0 +1,87 @@
+package com.example.demo.config;
+
+import com.example.demo.datasource.ReplicaFallbackDataSource;
+import com.example.demo.datasource.ReplicaHealthMonitor;
+import com.example.demo.health.HealthRefreshScheduler;
+import com.example.demo.health.PoolAwareDatabaseHealthIndicator;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration for routing read-only transactions to a replica pool and writes to the primary.
+ * The application data source defers fetching a physical connection until the first statement,
+ * by which time the transaction's read-only flag is known.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "demo.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("demo.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties) {
+        return DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(properties.getUrl())
+            .username(properties.getUsername())
+            .password(properties.getPassword())
+            .driverClassName(properties.getDriverClassName())
+            .build();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+            ReplicaDataSourceProperties properties) {
+        return new ReplicaHealthMonitor(replicaDataSource, properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+            ReplicaHealthMonitor replicaHealthMonitor) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(
+            new ReplicaFallbackDataSource(replicaDataSource, primaryDataSource, replicaHealthMonitor));
+        return dataSource;
+    }
+
+    /**
+     * Replaces the auto-configured "db" contributor, which would otherwise also
+     * cover the replica and the routing proxy.
+     */
+    @Bean
+    public HealthContributor dbHealthContributor(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                                 MeterRegistry meterRegistry, HealthRefreshProperties properties,
+                                                 HealthRefreshScheduler healthRefreshScheduler) {
+        return healthRefreshScheduler.register(
+            new PoolAwareDatabaseHealthIndicator(primaryDataSource, meterRegistry, properties.getDb()));
+    }
+
+    @Bean
+    public HealthContributor dbReplicaHealthContributor(@Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+                                                        MeterRegistry meterRegistry, HealthRefreshProperties properties,
+                                                        HealthRefreshScheduler healthRefreshScheduler) {
+        return healthRefreshScheduler.register(
+            new PoolAwareDatabaseHealthIndicator(replicaDataSource, meterRegistry, properties.getDb()));
+    }
+}
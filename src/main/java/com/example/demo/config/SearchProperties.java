@@ -0,0 +1,62 @@
+package com.example.demo.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory item search index.
+ */
+@ConfigurationProperties(prefix = "demo.search")
+@Validated
+public class SearchProperties {
+
+    /**
+     * Number of threads loading items into the index at startup.
+     */
+    @Min(value = 1, message = "build-parallelism must be at least 1")
+    @Max(value = 64, message = "build-parallelism must not exceed 64")
+    private int buildParallelism = 4;
+
+    /**
+     * Maximum number of index terms a single query term may expand to as a prefix. Beyond it, the terms
+     * found in the most items are kept and search responses are flagged as truncated.
+     */
+    @Min(value = 1, message = "max-prefix-expansions must be at least 1")
+    private int maxPrefixExpansions = 64;
+
+    /**
+     * How often the index reads the item change feed for writes it was not told about: writes made by other
+     * instances and bulk updates. Zero disables it, leaving the index unaware of them until restart.
+     */
+    @NotNull
+    private Duration catchUpInterval = Duration.ofSeconds(1);
+
+    public int getBuildParallelism() {
+        return buildParallelism;
+    }
+
+    public void setBuildParallelism(int buildParallelism) {
+        this.buildParallelism = buildParallelism;
+    }
+
+    public int getMaxPrefixExpansions() {
+        return maxPrefixExpansions;
+    }
+
+    public void setMaxPrefixExpansions(int maxPrefixExpansions) {
+        this.maxPrefixExpansions = maxPrefixExpansions;
+    }
+
+    public Duration getCatchUpInterval() {
+        return catchUpInterval;
+    }
+
+    public void setCatchUpInterval(Duration catchUpInterval) {
+        this.catchUpInterval = catchUpInterval;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for seeding synthetic items at startup.
+ */
+@ConfigurationProperties(prefix = "demo.seed")
+@Validated
+public class SeedProperties {
+
+    /**
+     * Number of items to generate when the database has not been seeded yet.
+     */
+    @Min(value = 0, message = "count must not be negative")
+    private long count = 50;
+
+    /**
+     * Number of parallel producer threads.
+     */
+    @Min(value = 1, message = "parallelism must be at least 1")
+    @Max(value = 64, message = "parallelism must not exceed 64")
+    private int parallelism = 1;
+
+    /**
+     * Number of items inserted per batch and transaction.
+     */
+    @Min(value = 1, message = "batch-size must be at least 1")
+    @Max(value = 100000, message = "batch-size must not exceed 100000")
+    private int batchSize = 1000;
+
+    /**
+     * Seed for the random generator; the same seed produces the same rows.
+     */
+    private long randomSeed = 42;
+
+    /**
+     * Minimum description length; shorter descriptions are padded with random text.
+     */
+    @Min(value = 0, message = "description-min-length must not be negative")
+    @Max(value = 255, message = "description-min-length must not exceed 255")
+    private int descriptionMinLength = 0;
+
+    /**
+     * Maximum description length.
+     */
+    @Min(value = 0, message = "description-max-length must not be negative")
+    @Max(value = 255, message = "description-max-length must not exceed 255")
+    private int descriptionMaxLength = 0;
+
+    /**
+     * How description lengths are spread between the minimum and maximum.
+     */
+    private SizeDistribution sizeDistribution = SizeDistribution.UNIFORM;
+
+    public enum SizeDistribution {
+        /**
+         * Every length between the minimum and maximum is equally likely.
+         */
+        UNIFORM,
+        /**
+         * Most descriptions are close to the minimum, with a few long outliers.
+         */
+        LONG_TAIL
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    public void setRandomSeed(long randomSeed) {
+        this.randomSeed = randomSeed;
+    }
+
+    public int getDescriptionMinLength() {
+        return descriptionMinLength;
+    }
+
+    public void setDescriptionMinLength(int descriptionMinLength) {
+        this.descriptionMinLength = descriptionMinLength;
+    }
+
+    public int getDescriptionMaxLength() {
+        return descriptionMaxLength;
+    }
+
+    public void setDescriptionMaxLength(int descriptionMaxLength) {
+        this.descriptionMaxLength = descriptionMaxLength;
+    }
+
+    public SizeDistribution getSizeDistribution() {
+        return sizeDistribution;
+    }
+
+    public void setSizeDistribution(SizeDistribution sizeDistribution) {
+        this.sizeDistribution = sizeDistribution;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.config;
+
+import com.example.demo.datasource.SqlInspectionPostProcessor;
+import com.example.demo.datasource.StatementBudgetFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration for SQL statement timing, the slow-statement log and per-request statement budgets.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "demo.sql", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInspectionConfig {
+
+    /**
+     * Static so that it is registered before the data sources it wraps are created.
+     */
+    @Bean
+    public static SqlInspectionPostProcessor sqlInspectionPostProcessor(
+            ObjectProvider<SqlInspectionProperties> properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new SqlInspectionPostProcessor(properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<StatementBudgetFilter> statementBudgetFilterRegistration(
+            SqlInspectionProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<StatementBudgetFilter> registrationBean =
+            new FilterRegistrationBean<>(new StatementBudgetFilter(properties, meterRegistry));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registrationBean;
+    }
+}
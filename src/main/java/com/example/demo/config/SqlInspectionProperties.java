@@ -0,0 +1,80 @@
+package com.example.demo.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for SQL statement timing, the slow-statement log and per-request statement budgets.
+ */
+@ConfigurationProperties(prefix = "demo.sql")
+@Validated
+public class SqlInspectionProperties {
+
+    /**
+     * Time and count every statement issued through the application's connection pools.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Statements taking at least this long are logged with the shape of their bind parameters.
+     */
+    @NotNull
+    private Duration slowThreshold = Duration.ofMillis(200);
+
+    /**
+     * Maximum number of statements a single HTTP request may issue before it is flagged.
+     */
+    @Min(value = 0, message = "statement-budget must not be negative")
+    private int statementBudget = 10;
+
+    /**
+     * Budgets overriding {@link #statementBudget} by route pattern, for example {@code [/api/items]: 2}.
+     */
+    private Map<String, Integer> routeBudgets = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+
+    public int getStatementBudget() {
+        return statementBudget;
+    }
+
+    public void setStatementBudget(int statementBudget) {
+        this.statementBudget = statementBudget;
+    }
+
+    public Map<String, Integer> getRouteBudgets() {
+        return routeBudgets;
+    }
+
+    public void setRouteBudgets(Map<String, Integer> routeBudgets) {
+        this.routeBudgets = routeBudgets;
+    }
+
+    /**
+     * @param route the matched route pattern
+     * @return the statement budget of the route
+     */
+    public int budgetFor(String route) {
+        return routeBudgets.getOrDefault(route, statementBudget);
+    }
+}
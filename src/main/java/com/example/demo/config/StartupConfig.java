@@ -0,0 +1,34 @@
+package com.example.demo.config;
+
+import com.example.demo.controller.ItemController;
+import com.example.demo.diagnostics.PinningMonitor;
+import com.example.demo.health.HealthRefreshScheduler;
+import com.example.demo.ratelimit.RateLimitService;
+import com.example.demo.search.ItemSearchIndex;
+import com.example.demo.service.ItemLookupService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Beans kept eager when the "startup" profile turns on {@code spring.main.lazy-initialization}:
+ * the request hot path, so the first requests do not pay for its creation, the health
+ * contributors, so their background refresh starts before the first probe, and monitors
+ * no other bean depends on.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter hotPathLazyInitializationExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+            RateLimitService.class,
+            ItemController.class,
+            ItemLookupService.class,
+            ItemSearchIndex.class,
+            HealthRefreshScheduler.class,
+            HealthContributor.class,
+            PinningMonitor.class);
+    }
+}
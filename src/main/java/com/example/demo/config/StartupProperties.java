@@ -0,0 +1,24 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for startup measurement runs.
+ */
+@ConfigurationProperties(prefix = "demo.startup")
+public class StartupProperties {
+
+    /**
+     * Exit once readiness reports ACCEPTING_TRAFFIC; used by the AppCDS training run and the
+     * startup report tasks of the build.
+     */
+    private boolean exitOnReady = false;
+
+    public boolean isExitOnReady() {
+        return exitOnReady;
+    }
+
+    public void setExitOnReady(boolean exitOnReady) {
+        this.exitOnReady = exitOnReady;
+    }
+}
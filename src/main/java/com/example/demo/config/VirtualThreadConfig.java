@@ -0,0 +1,32 @@
+package com.example.demo.config;
+
+import com.example.demo.datasource.ConnectionPermitPostProcessor;
+import com.example.demo.diagnostics.PinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Safeguards active when request handling runs on virtual threads ({@code spring.threads.virtual.enabled}).
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Static so that it is registered before the data sources it wraps are created.
+     */
+    @Bean
+    public static ConnectionPermitPostProcessor connectionPermitPostProcessor(
+            ObjectProvider<VirtualThreadProperties> properties) {
+        return new ConnectionPermitPostProcessor(properties);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public PinningMonitor pinningMonitor(MeterRegistry meterRegistry, VirtualThreadProperties properties) {
+        return new PinningMonitor(meterRegistry, properties.getPinningThreshold());
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.config;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for running with virtual threads ({@code spring.threads.virtual.enabled}).
+ */
+@ConfigurationProperties(prefix = "demo.virtual-threads")
+@Validated
+public class VirtualThreadProperties {
+
+    /**
+     * How long a thread may queue for a database connection permit before the request fails.
+     * Permits are handed out in arrival order, one per pooled connection.
+     */
+    @NotNull
+    private Duration connectionPermitTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Pinned virtual threads and contended monitor waits shorter than this are not recorded.
+     */
+    @NotNull
+    private Duration pinningThreshold = Duration.ofMillis(20);
+
+    public Duration getConnectionPermitTimeout() {
+        return connectionPermitTimeout;
+    }
+
+    public void setConnectionPermitTimeout(Duration connectionPermitTimeout) {
+        this.connectionPermitTimeout = connectionPermitTimeout;
+    }
+
+    public Duration getPinningThreshold() {
+        return pinningThreshold;
+    }
+
+    public void setPinningThreshold(Duration pinningThreshold) {
+        this.pinningThreshold = pinningThreshold;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the warmup phase run before the application accepts traffic.
+ */
+@ConfigurationProperties(prefix = "demo.warmup")
+@Validated
+public class WarmupProperties {
+
+    /**
+     * Run the warmup phase once the application is ready.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum time spent warming up; readiness is published when it runs out even if iterations remain.
+     */
+    @NotNull
+    private Duration timeBudget = Duration.ofSeconds(30);
+
+    /**
+     * Number of synthetic requests replayed against the hot paths.
+     */
+    @Min(value = 0, message = "iterations must not be negative")
+    private int iterations = 2000;
+
+    /**
+     * Number of leading item pages loaded into the caches and cycled through by the synthetic requests.
+     */
+    @Min(value = 1, message = "hot-pages must be at least 1")
+    @Max(value = 1000, message = "hot-pages must not exceed 1000")
+    private int hotPages = 5;
+
+    /**
+     * Page size of the preloaded item pages.
+     */
+    @Min(value = 1, message = "page-size must be at least 1")
+    @Max(value = 100, message = "page-size must not exceed 100")
+    private int pageSize = 20;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTimeBudget() {
+        return timeBudget;
+    }
+
+    public void setTimeBudget(Duration timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    public int getHotPages() {
+        return hotPages;
+    }
+
+    public void setHotPages(int hotPages) {
+        this.hotPages = hotPages;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+}
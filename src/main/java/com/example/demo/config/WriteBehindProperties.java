@@ -0,0 +1,113 @@
+package com.example.demo.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for buffering item writes and committing them in groups.
+ */
+@ConfigurationProperties(prefix = "demo.write-behind")
+@Validated
+public class WriteBehindProperties {
+
+    /**
+     * When to answer a write request.
+     */
+    public enum Durability {
+        /**
+         * As soon as the write is buffered; writes still buffered are lost if the process dies.
+         */
+        ACCEPTED,
+        /**
+         * Once the group commit containing the write has landed.
+         */
+        COMMITTED
+    }
+
+    /**
+     * Buffer writes and commit them in groups instead of one transaction per write.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of buffered writes, rounded up to a power of two; further writes are rejected with 503.
+     */
+    @Min(value = 2, message = "capacity must be at least 2")
+    @Max(value = 1048576, message = "capacity must not exceed 1048576")
+    private int capacity = 8192;
+
+    /**
+     * Maximum number of writes per group commit.
+     */
+    @Min(value = 1, message = "flush-size must be at least 1")
+    private int flushSize = 500;
+
+    /**
+     * Maximum time a buffered write waits for its group to fill before it is committed anyway.
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    @NotNull
+    private Durability durability = Durability.COMMITTED;
+
+    /**
+     * How long a request waits for its group commit with COMMITTED durability before it is answered
+     * with 202 Accepted instead.
+     */
+    @NotNull
+    private Duration commitTimeout = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getFlushSize() {
+        return flushSize;
+    }
+
+    public void setFlushSize(int flushSize) {
+        this.flushSize = flushSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public void setDurability(Durability durability) {
+        this.durability = durability;
+    }
+
+    public Duration getCommitTimeout() {
+        return commitTimeout;
+    }
+
+    public void setCommitTimeout(Duration commitTimeout) {
+        this.commitTimeout = commitTimeout;
+    }
+}
@@ -1,34 +1,176 @@
 package com.example.demo.controller;
 
-import com.example.demo.entity.Item;
+import com.example.demo.diagnostics.ItemPageQueryEvent;
+import com.example.demo.dto.BulkIngestResponse;
+import com.example.demo.dto.ItemBatchResponse;
+import com.example.demo.dto.ItemQuery;
+import com.example.demo.dto.ItemRequest;
+import com.example.demo.dto.ItemSearchHit;
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.dto.PageResponse;
+import com.example.demo.dto.SyncToken;
 import com.example.demo.repository.ItemRepository;
+import com.example.demo.repository.ItemSpecifications;
+import com.example.demo.search.ItemSearchIndex;
+import com.example.demo.service.ItemBulkIngestService;
+import com.example.demo.service.ItemExportService;
+import com.example.demo.service.ItemLookupService;
+import com.example.demo.service.ItemSyncService;
+import com.example.demo.service.ItemWriteService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/items")
 @Validated
+@Profile("!reactive")
 public class ItemController {
 
+    static final String SEARCH_TRUNCATED_HEADER = "X-Search-Truncated";
+
     private final ItemRepository itemRepository;
+    private final ItemExportService itemExportService;
+    private final ItemBulkIngestService itemBulkIngestService;
+    private final ItemLookupService itemLookupService;
+    private final ItemSyncService itemSyncService;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemWriteService itemWriteService;
 
-    public ItemController(ItemRepository itemRepository) {
+    public ItemController(ItemRepository itemRepository, ItemExportService itemExportService,
+                          ItemBulkIngestService itemBulkIngestService, ItemLookupService itemLookupService,
+                          ItemSyncService itemSyncService, ItemSearchIndex itemSearchIndex,
+                          ItemWriteService itemWriteService) {
         this.itemRepository = itemRepository;
+        this.itemExportService = itemExportService;
+        this.itemBulkIngestService = itemBulkIngestService;
+        this.itemLookupService = itemLookupService;
+        this.itemSyncService = itemSyncService;
+        this.itemSearchIndex = itemSearchIndex;
+        this.itemWriteService = itemWriteService;
     }
 
     @GetMapping
-    public Page<Item> listItems(
+    public PageResponse<ItemSummary> listItems(
             @RequestParam(defaultValue = "0") @Min(0) Integer page,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return itemRepository.findAll(pageable);
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
+            @RequestParam MultiValueMap<String, String> params) {
+        // Read from the raw parameters: list binding would split filter values on commas
+        ItemQuery query = ItemQuery.parse(params.get("sort"), params.get("filter"));
+        ItemPageQueryEvent event = new ItemPageQueryEvent();
+        event.begin();
+        boolean timed = event.isEnabled();
+        long queryStart = timed ? System.nanoTime() : 0;
+        long countTime = 0;
+        Page<ItemSummary> result;
+        if (query.equals(ItemQuery.DEFAULT)) {
+            Pageable pageable = PageRequest.of(page, size);
+            List<ItemSummary> content = itemRepository.findSummaryContent(pageable);
+            long countStart = timed ? System.nanoTime() : 0;
+            result = PageableExecutionUtils.getPage(content, pageable, itemRepository::countLive);
+            countTime = timed ? System.nanoTime() - countStart : 0;
+        } else {
+            Pageable pageable = PageRequest.of(page, size, query.sort());
+            result = itemRepository.findSummaries(ItemSpecifications.matching(query), pageable);
+        }
+        long queryTime = timed ? System.nanoTime() - queryStart - countTime : 0;
+        event.end();
+        if (event.shouldCommit()) {
+            event.page = page;
+            event.size = size;
+            event.query = query.equals(ItemQuery.DEFAULT) ? "" : query.toString();
+            event.returned = result.getNumberOfElements();
+            event.total = result.getTotalElements();
+            event.queryTime = queryTime;
+            event.countTime = countTime;
+            event.commit();
+        }
+        return PageResponse.from(result);
+    }
+
+    @GetMapping(params = "ids")
+    public ItemBatchResponse getItems(@RequestParam @Size(min = 1, max = 500) List<@NotNull Long> ids) {
+        return itemLookupService.findByIds(ids);
+    }
+
+    @GetMapping("/{id}")
+    public ItemSummary getItem(@PathVariable Long id) {
+        return itemLookupService.findById(id);
+    }
+
+    /**
+     * Full-text search. When a query term is a prefix of more index terms than the index expands,
+     * only the most frequent expansions are scored and the response carries {@value #SEARCH_TRUNCATED_HEADER}.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ItemSearchHit>> searchItems(
+            @RequestParam @NotBlank @Size(max = 200) String q,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer limit) {
+        ItemSearchIndex.SearchResult result = itemSearchIndex.search(q, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (result.truncated()) {
+            response.header(SEARCH_TRUNCATED_HEADER, "true");
+        }
+        return response.body(result.hits());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportItems(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        itemExportService.exportAll(response.getOutputStream());
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void listChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "1000") @Min(1) @Max(10000) Integer limit,
+            HttpServletResponse response) throws IOException {
+        SyncToken token = since != null ? SyncToken.decode(since) : SyncToken.INITIAL;
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        itemSyncService.writeChangesSince(token, limit, response.getOutputStream());
+    }
+
+    /**
+     * Create an item. Answers 201 with the stored item, or 202 when write-behind accepted the write
+     * without waiting for its commit.
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ItemSummary> createItem(@Valid @RequestBody ItemRequest request) {
+        return itemWriteService.create(request)
+            .map(item -> ResponseEntity.created(URI.create("/api/items/" + item.id())).body(item))
+            .orElseGet(() -> ResponseEntity.accepted().build());
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    public BulkIngestResponse bulkIngest(HttpServletRequest request) throws IOException {
+        return itemBulkIngestService.ingest(request.getInputStream());
     }
 }
@@ -0,0 +1,78 @@
+package com.example.demo.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits callers of {@code getConnection} through a fair semaphore with one permit per pooled connection.
+ * The permit is held until the connection is closed, so the pool itself never has waiters and threads
+ * beyond the pool size queue in arrival order instead of racing for handoffs.
+ */
+public class ConnectionPermitInterceptor implements MethodInterceptor {
+
+    private final Semaphore permits;
+    private final long timeoutNanos;
+    private final String poolName;
+
+    public ConnectionPermitInterceptor(int maxConnections, Duration timeout, String poolName) {
+        this.permits = new Semaphore(maxConnections, true);
+        this.timeoutNanos = timeout.toNanos();
+        this.poolName = poolName;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!invocation.getMethod().getName().equals("getConnection")) {
+            return invocation.proceed();
+        }
+
+        if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+            throw new SQLTransientConnectionException(poolName + " - Timed out waiting for a connection permit after "
+                + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms");
+        }
+        try {
+            return releasingOnClose((Connection) invocation.proceed());
+        } catch (Throwable e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of threads waiting for a permit
+     */
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                    try {
+                        connection.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.datasource;
+
+import com.example.demo.config.VirtualThreadProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Puts a {@link ConnectionPermitInterceptor} sized to the pool in front of every Hikari pool.
+ * The pool is proxied by class, so it can still be injected and inspected as a {@link HikariDataSource};
+ * a pool that is already proxied gets the interceptor added as its outermost advice.
+ */
+public class ConnectionPermitPostProcessor implements BeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPermitPostProcessor.class);
+
+    private final ObjectProvider<VirtualThreadProperties> properties;
+
+    public ConnectionPermitPostProcessor(ObjectProvider<VirtualThreadProperties> properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource dataSource)) {
+            return bean;
+        }
+
+        int maxConnections = dataSource.getMaximumPoolSize();
+        String poolName = dataSource.getPoolName() != null ? dataSource.getPoolName() : beanName;
+        ConnectionPermitInterceptor interceptor = new ConnectionPermitInterceptor(maxConnections,
+            properties.getObject().getConnectionPermitTimeout(), poolName);
+        logger.info("Limiting concurrent connection requests on {} to {} permits", poolName, maxConnections);
+        if (bean instanceof Advised advised) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(dataSource);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(dataSource.getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Read-only data source that uses the replica while it is healthy and the primary otherwise.
+ */
+public class ReplicaFallbackDataSource extends AbstractDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaFallbackDataSource.class);
+
+    private final DataSource replica;
+    private final DataSource primary;
+    private final ReplicaHealthMonitor healthMonitor;
+
+    public ReplicaFallbackDataSource(DataSource replica, DataSource primary, ReplicaHealthMonitor healthMonitor) {
+        this.replica = replica;
+        this.primary = primary;
+        this.healthMonitor = healthMonitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (healthMonitor.isAvailable()) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                logger.debug("Replica connection failed, falling back to primary", e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (healthMonitor.isAvailable()) {
+            try {
+                return replica.getConnection(username, password);
+            } catch (SQLException e) {
+                logger.debug("Replica connection failed, falling back to primary", e);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+}
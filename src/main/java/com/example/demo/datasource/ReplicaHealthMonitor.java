@@ -0,0 +1,111 @@
+package com.example.demo.datasource;
+
+import com.example.demo.config.ReplicaDataSourceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically checks that the replica is reachable and not lagging too far behind the primary.
+ */
+public class ReplicaHealthMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    private final DataSource replica;
+    private final ReplicaDataSourceProperties properties;
+    private final ScheduledExecutorService checkExecutor;
+    private volatile boolean available;
+    private volatile String unavailableReason = "not checked yet";
+
+    public ReplicaHealthMonitor(DataSource replica, ReplicaDataSourceProperties properties) {
+        this.replica = replica;
+        this.properties = properties;
+        this.checkExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "replica-health-check");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public void start() {
+        check();
+        long intervalMs = properties.getHealthCheckInterval().toMillis();
+        checkExecutor.scheduleWithFixedDelay(this::check, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        logger.info("Replica health check scheduled to run every {} ms", intervalMs);
+    }
+
+    public void stop() {
+        checkExecutor.shutdownNow();
+    }
+
+    /**
+     * Check the replica once and update its availability.
+     */
+    public void check() {
+        try (Connection connection = replica.getConnection()) {
+            int timeoutSeconds = (int) Math.max(1, properties.getValidationTimeout().toSeconds());
+            if (!connection.isValid(timeoutSeconds)) {
+                markUnavailable("connection validation failed");
+                return;
+            }
+
+            if (properties.getLagQuery() != null) {
+                double lagSeconds = queryLagSeconds(connection);
+                double maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+                if (lagSeconds > maxLagSeconds) {
+                    markUnavailable("replication lag of " + lagSeconds + "s exceeds " + maxLagSeconds + "s");
+                    return;
+                }
+            }
+
+            markAvailable();
+        } catch (SQLException e) {
+            markUnavailable(e.getMessage());
+        }
+    }
+
+    /**
+     * @return true if read-only work may be routed to the replica
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * @return why the replica is not used, or null while it is available
+     */
+    public String getUnavailableReason() {
+        return available ? null : unavailableReason;
+    }
+
+    private double queryLagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+            return resultSet.next() ? resultSet.getDouble(1) : 0;
+        }
+    }
+
+    private void markAvailable() {
+        if (!available) {
+            logger.info("Replica available, routing read-only transactions to it");
+        }
+        available = true;
+    }
+
+    private void markUnavailable(String reason) {
+        if (available) {
+            logger.warn("Replica unavailable, routing reads to primary: {}", reason);
+        }
+        unavailableReason = reason;
+        available = false;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.datasource;
+
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.sql.Connection;
+
+/**
+ * Hands out connections whose statements report to a {@link SqlStatementListener}. Statements are wrapped
+ * by datasource-proxy, so the listener sees the SQL, bind parameters and batch sizes of every execution.
+ */
+public class SqlInspectionInterceptor implements MethodInterceptor {
+
+    private final ProxyConfig proxyConfig;
+    private final String poolName;
+
+    public SqlInspectionInterceptor(SqlStatementListener listener, String poolName) {
+        this.proxyConfig = ProxyConfig.Builder.create()
+            .dataSourceName(poolName)
+            .queryListener(listener)
+            .build();
+        this.poolName = poolName;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!invocation.getMethod().getName().equals("getConnection")) {
+            return invocation.proceed();
+        }
+
+        Connection connection = (Connection) invocation.proceed();
+        ConnectionInfo connectionInfo = new ConnectionInfo();
+        connectionInfo.setConnectionId(proxyConfig.getConnectionIdManager().getId(connection));
+        connectionInfo.setDataSourceName(poolName);
+        return proxyConfig.getJdbcProxyFactory().createConnection(connection, connectionInfo, proxyConfig);
+    }
+}
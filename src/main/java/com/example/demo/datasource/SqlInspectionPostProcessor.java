@@ -0,0 +1,51 @@
+package com.example.demo.datasource;
+
+import com.example.demo.config.SqlInspectionProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Puts a {@link SqlInspectionInterceptor} in front of every Hikari pool. Pools already proxied by
+ * {@link ConnectionPermitPostProcessor} get the interceptor added to the existing proxy, innermost, so
+ * only connections that were actually handed out are inspected.
+ */
+public class SqlInspectionPostProcessor implements BeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlInspectionPostProcessor.class);
+
+    private final ObjectProvider<SqlInspectionProperties> properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public SqlInspectionPostProcessor(ObjectProvider<SqlInspectionProperties> properties,
+                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource dataSource)) {
+            return bean;
+        }
+
+        String poolName = dataSource.getPoolName() != null ? dataSource.getPoolName() : beanName;
+        SqlStatementListener listener = new SqlStatementListener(poolName,
+            properties.getObject().getSlowThreshold(), meterRegistry.getObject());
+        SqlInspectionInterceptor interceptor = new SqlInspectionInterceptor(listener, poolName);
+        logger.info("Inspecting SQL statements on {}", poolName);
+        if (bean instanceof Advised advised) {
+            advised.addAdvice(interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(dataSource);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(dataSource.getClass().getClassLoader());
+    }
+}
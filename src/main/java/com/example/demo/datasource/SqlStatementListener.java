@@ -0,0 +1,108 @@
+package com.example.demo.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every statement executed through a pool, records it as the {@code db.statements} timer, counts it
+ * against the thread's open {@link StatementCapture}s, and logs statements slower than the threshold
+ * together with the shape of their bind parameters: the value types, never the values themselves.
+ */
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementListener.class);
+    private static final String START_NANOS = SqlStatementListener.class.getName() + ".start";
+
+    private final String poolName;
+    private final long slowThresholdNanos;
+    private final MeterRegistry meterRegistry;
+    private final Counter slowStatements;
+
+    public SqlStatementListener(String poolName, Duration slowThreshold, MeterRegistry meterRegistry) {
+        this.poolName = poolName;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.meterRegistry = meterRegistry;
+        this.slowStatements = Counter.builder("db.statements.slow")
+            .description("Statements at or above the slow-statement threshold")
+            .tag("pool", poolName)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long nanos = start != null ? System.nanoTime() - start : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+        String sql = queryInfoList.size() == 1 ? queryInfoList.get(0).getQuery()
+            : String.join(";\n", queryInfoList.stream().map(QueryInfo::getQuery).toList());
+
+        StatementCapture.record(sql, nanos);
+        Timer.builder("db.statements")
+            .description("Execution time of SQL statements")
+            .tag("pool", poolName)
+            .tag("type", statementType(sql))
+            .tag("outcome", execInfo.isSuccess() ? "success" : "error")
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+
+        if (nanos >= slowThresholdNanos) {
+            slowStatements.increment();
+            logger.warn("Slow SQL on {} took {} ms{}: {} binds {}", poolName, TimeUnit.NANOSECONDS.toMillis(nanos),
+                execInfo.isBatch() ? " (batch of " + execInfo.getBatchSize() + ")" : "", sql,
+                parameterShapes(queryInfoList));
+        }
+    }
+
+    static String statementType(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String keyword = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "insert", "update", "delete", "merge", "with" -> keyword;
+            default -> "other";
+        };
+    }
+
+    /**
+     * Describe bind parameters by type, e.g. {@code [Long, String]}; for batches only the first set and
+     * the number of sets.
+     */
+    static String parameterShapes(List<QueryInfo> queryInfoList) {
+        StringJoiner shapes = new StringJoiner(", ");
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<List<ParameterSetOperation>> parameterSets = queryInfo.getParametersList();
+            if (parameterSets.isEmpty()) {
+                shapes.add("[]");
+                continue;
+            }
+            StringJoiner shape = new StringJoiner(", ", "[", "]");
+            for (ParameterSetOperation operation : parameterSets.get(0)) {
+                Object[] args = operation.getArgs();
+                Object value = args.length > 1 ? args[1] : null;
+                shape.add(value != null ? value.getClass().getSimpleName() : "null");
+            }
+            shapes.add(parameterSets.size() > 1 ? shape + " x" + parameterSets.size() : shape.toString());
+        }
+        return shapes.toString();
+    }
+}
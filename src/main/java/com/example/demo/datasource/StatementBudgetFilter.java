@@ -0,0 +1,72 @@
+package com.example.demo.datasource;
+
+import com.example.demo.config.SqlInspectionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servlet filter that counts the SQL statements each request issues on its own thread, records the count
+ * per route as {@code http.server.requests.statements}, and flags requests over the route's statement
+ * budget, which is how N+1 query patterns usually show up.
+ */
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementBudgetFilter.class);
+    private static final String UNMATCHED = "UNMATCHED";
+
+    private final SqlInspectionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public StatementBudgetFilter(SqlInspectionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCapture capture = StatementCapture.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            capture.close();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String route = pattern != null ? pattern.toString() : UNMATCHED;
+            record(route, request.getMethod(), capture);
+        }
+    }
+
+    private void record(String route, String method, StatementCapture capture) {
+        DistributionSummary.builder("http.server.requests.statements")
+            .description("SQL statements issued per request")
+            .tag("uri", route)
+            .tag("method", method)
+            .register(meterRegistry)
+            .record(capture.count());
+
+        int budget = properties.budgetFor(route);
+        if (capture.count() > budget) {
+            Counter.builder("http.server.requests.statement.budget.exceeded")
+                .description("Requests that issued more SQL statements than their budget")
+                .tag("uri", route)
+                .tag("method", method)
+                .register(meterRegistry)
+                .increment();
+            logger.warn("{} {} issued {} SQL statements ({} ms), over its budget of {}; first statements: {}",
+                method, route, capture.count(), TimeUnit.NANOSECONDS.toMillis(capture.elapsedNanos()), budget,
+                capture.statements().subList(0, Math.min(5, capture.statements().size())));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.datasource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Counts the SQL statements the current thread issues while the capture is open. Captures nest: a
+ * statement counts towards every open capture of the thread, so a test can capture a single call while
+ * the request filter captures the whole request.
+ * <pre>{@code
+ * try (StatementCapture capture = StatementCapture.open()) {
+ *     itemController.listItems(...);
+ *     assert capture.count() <= 2;
+ * }
+ * }</pre>
+ */
+public final class StatementCapture implements AutoCloseable {
+
+    /**
+     * Statements kept for diagnostics; further statements are counted but not retained.
+     */
+    static final int MAX_RETAINED = 50;
+
+    private static final ThreadLocal<StatementCapture> CURRENT = new ThreadLocal<>();
+
+    private final StatementCapture parent;
+    private final List<String> statements = new ArrayList<>();
+    private int count;
+    private long elapsedNanos;
+    private boolean closed;
+
+    private StatementCapture(StatementCapture parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Start capturing on the current thread; close the capture on the same thread.
+     */
+    public static StatementCapture open() {
+        StatementCapture capture = new StatementCapture(CURRENT.get());
+        CURRENT.set(capture);
+        return capture;
+    }
+
+    /**
+     * Count a statement against every capture open on the current thread.
+     */
+    static void record(String sql, long nanos) {
+        for (StatementCapture capture = CURRENT.get(); capture != null; capture = capture.parent) {
+            capture.count++;
+            capture.elapsedNanos += nanos;
+            if (capture.statements.size() < MAX_RETAINED) {
+                capture.statements.add(sql);
+            }
+        }
+    }
+
+    /**
+     * @return the number of statements issued while the capture was open
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @return the total execution time of those statements
+     */
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return the first {@value #MAX_RETAINED} statements, in execution order
+     */
+    public List<String> statements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            if (parent != null) {
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
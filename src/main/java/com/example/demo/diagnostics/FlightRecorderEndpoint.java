@@ -0,0 +1,139 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Actuator endpoint at {@code /actuator/jfr} for Flight Recorder, including the application's
+ * {@code com.example.demo.*} events.
+ * <ul>
+ *   <li>{@code POST} starts a continuous recording with the given JDK settings ({@code default} or {@code profile})
+ *       keeping the last {@code maxAge} of data.</li>
+ *   <li>{@code GET} downloads what the recording started here has kept so far as a {@code .jfr} file,
+ *       without stopping it. Other recordings in the JVM, with their own events and settings, are left out.</li>
+ *   <li>{@code DELETE} stops the recording started here.</li>
+ * </ul>
+ * Only exposed by the dev profile. The recording started here never captures environment variables,
+ * system properties or JVM arguments, since those carry the datasource credentials.
+ */
+@WebEndpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    static final String RECORDING_NAME = "demo-actuator";
+    private static final String DEFAULT_SETTINGS = "default";
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(15);
+    static final List<String> SENSITIVE_EVENTS = List.of(
+        "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    /**
+     * State of the recording started through this endpoint.
+     */
+    public record RecordingDescriptor(long id, String name, String settings, String state, String maxAge) {
+    }
+
+    private Recording recording;
+    private String settings;
+
+    @WriteOperation
+    public synchronized RecordingDescriptor start(@Nullable String settings, @Nullable Duration maxAge)
+            throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return describe();
+        }
+        String name = settings != null ? settings : DEFAULT_SETTINGS;
+        Recording started = new Recording(Configuration.getConfiguration(name));
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxAge(maxAge != null ? maxAge : DEFAULT_MAX_AGE);
+        started.enable(RateLimitDecisionEvent.class);
+        started.enable(RateLimitCleanupEvent.class);
+        started.enable(ItemPageQueryEvent.class);
+        started.enable(HandledExceptionEvent.class);
+        SENSITIVE_EVENTS.forEach(started::disable);
+        started.start();
+        this.recording = started;
+        this.settings = name;
+        return describe();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> dump() throws IOException {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = Files.createTempFile("demo-", ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new WebEndpointResponse<>(new TemporaryFileResource(file));
+    }
+
+    @DeleteOperation
+    public synchronized RecordingDescriptor stop() {
+        if (recording == null) {
+            return null;
+        }
+        RecordingDescriptor stopped = describe();
+        recording.close();
+        recording = null;
+        return stopped;
+    }
+
+    private RecordingDescriptor describe() {
+        return new RecordingDescriptor(recording.getId(), recording.getName(), settings,
+            recording.getState().name(), String.valueOf(recording.getMaxAge()));
+    }
+
+    /**
+     * Deleted once the response has been streamed from it.
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            InputStream content = super.getInputStream();
+            Path file = getFile().toPath();
+            return new FilterInputStream(content) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean isFile() {
+            // Forces the content through getInputStream() instead of a direct file transfer
+            return false;
+        }
+    }
+}
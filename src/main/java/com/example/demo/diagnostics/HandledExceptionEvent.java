@@ -0,0 +1,27 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An exception translated into an error response by {@code GlobalExceptionHandler}.
+ */
+@Name("com.example.demo.HandledException")
+@Label("Handled Exception")
+@Category({"Demo", "Web"})
+@Description("Exception answered with an error response")
+@StackTrace(false)
+public class HandledExceptionEvent extends jdk.jfr.Event {
+
+    @Label("Exception Class")
+    public Class<?> exceptionClass;
+
+    @Label("Message")
+    public String message;
+
+    @Label("Status")
+    public int status;
+}
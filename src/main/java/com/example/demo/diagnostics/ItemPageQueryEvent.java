@@ -0,0 +1,44 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One {@code GET /api/items} page, with the time spent loading the content and counting the total.
+ */
+@Name("com.example.demo.ItemPageQuery")
+@Label("Item Page Query")
+@Category({"Demo", "Database"})
+@Description("Item listing page loaded from the database")
+@StackTrace(false)
+public class ItemPageQueryEvent extends jdk.jfr.Event {
+
+    @Label("Page")
+    public int page;
+
+    @Label("Size")
+    public int size;
+
+    @Label("Query")
+    @Description("Sort and filter of the listing, or empty for the default id order")
+    public String query;
+
+    @Label("Returned")
+    public int returned;
+
+    @Label("Total")
+    public long total;
+
+    @Label("Query Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queryTime;
+
+    @Label("Count Time")
+    @Description("Zero when the total followed from the page content; filtered listings count within the query time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long countTime;
+}
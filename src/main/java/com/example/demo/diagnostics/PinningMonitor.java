@@ -0,0 +1,98 @@
+package com.example.demo.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+/**
+ * Streams JFR events for virtual threads pinned to their carrier and for contended {@code synchronized}
+ * blocks, and records them as timers tagged with the first application frame of the stack:
+ * {@code jvm.threads.virtual.pinned} and {@code jvm.monitor.contended}.
+ */
+public class PinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String MONITOR_ENTER_EVENT = "jdk.JavaMonitorEnter";
+
+    private static final Logger logger = LoggerFactory.getLogger(PinningMonitor.class);
+    private static final int MAX_FRAMES = 64;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public PinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    public synchronized void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.enable(MONITOR_ENTER_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.onEvent(MONITOR_ENTER_EVENT, this::onMonitorEnter);
+        recordingStream.startAsync();
+        logger.info("Recording virtual thread pinning and monitor contention above {} ms", threshold.toMillis());
+    }
+
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = applicationFrame(event.getStackTrace());
+        logger.debug("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+        Timer.builder("jvm.threads.virtual.pinned")
+            .description("Time virtual threads spent blocked while pinned to their carrier")
+            .tag("site", site)
+            .register(meterRegistry)
+            .record(event.getDuration());
+    }
+
+    private void onMonitorEnter(RecordedEvent event) {
+        RecordedClass monitorClass = event.getClass("monitorClass");
+        Timer.builder("jvm.monitor.contended")
+            .description("Time threads waited to enter a contended synchronized block")
+            .tag("monitor", monitorClass != null ? monitorClass.getName() : "unknown")
+            .tag("site", applicationFrame(event.getStackTrace()))
+            .register(meterRegistry)
+            .record(event.getDuration());
+    }
+
+    /**
+     * @return the innermost frame outside the JDK, so that tags point at the calling code
+     */
+    static String applicationFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        String fallback = "unknown";
+        int inspected = 0;
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame() || inspected++ >= MAX_FRAMES) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            String site = type + "." + frame.getMethod().getName();
+            if (fallback.equals("unknown")) {
+                fallback = site;
+            }
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return site;
+            }
+        }
+        return fallback;
+    }
+}
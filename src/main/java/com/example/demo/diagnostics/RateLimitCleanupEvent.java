@@ -0,0 +1,24 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One sweep of expired rate limit counters.
+ */
+@Name("com.example.demo.RateLimitCleanup")
+@Label("Rate Limit Cleanup")
+@Category({"Demo", "Rate Limiting"})
+@Description("Sweep removing expired rate limit counters")
+@StackTrace(false)
+public class RateLimitCleanupEvent extends jdk.jfr.Event {
+
+    @Label("Entries Scanned")
+    public int scanned;
+
+    @Label("Entries Removed")
+    public int removed;
+}
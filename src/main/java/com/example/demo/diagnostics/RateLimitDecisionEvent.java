@@ -0,0 +1,39 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One rate limit decision. Only decisions slower than the threshold are recorded, which in practice
+ * means those that went through {@code ConcurrentHashMap.compute} and waited for its bin lock; lower the
+ * threshold in the recording settings to sample every decision.
+ */
+@Name("com.example.demo.RateLimitDecision")
+@Label("Rate Limit Decision")
+@Category({"Demo", "Rate Limiting"})
+@Description("Rate limiter decision for a client key")
+@Threshold("1 ms")
+@StackTrace(false)
+public class RateLimitDecisionEvent extends jdk.jfr.Event {
+
+    @Label("Client Key")
+    public String clientKey;
+
+    @Label("Allowed")
+    public boolean allowed;
+
+    @Label("Request Count")
+    @Description("Requests counted in the current window, including this one")
+    public int requestCount;
+
+    @Label("Limit")
+    public int limit;
+
+    @Label("Computed")
+    @Description("Whether the decision created or reset the counter under the map's bin lock")
+    public boolean computed;
+}
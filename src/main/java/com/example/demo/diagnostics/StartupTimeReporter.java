@@ -0,0 +1,70 @@
+package com.example.demo.diagnostics;
+
+import com.example.demo.config.StartupProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time-to-ready: from JVM start, so class loading and CDS effects are included, until readiness
+ * reports ACCEPTING_TRAFFIC, so the warmup phase is included. Logged together with the startup
+ * optimizations in effect, and published as the {@code application.time-to-ready} gauge.
+ */
+@Component
+public class StartupTimeReporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimeReporter.class);
+
+    private final ApplicationContext context;
+    private final MeterRegistry meterRegistry;
+    private final StartupProperties properties;
+    private volatile long timeToReadyMs = -1;
+
+    public StartupTimeReporter(ApplicationContext context, MeterRegistry meterRegistry, StartupProperties properties) {
+        this.context = context;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @EventListener
+    public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC || timeToReadyMs >= 0) {
+            return;
+        }
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        timeToReadyMs = System.currentTimeMillis() - runtime.getStartTime();
+        TimeGauge.builder("application.time-to-ready", this, TimeUnit.MILLISECONDS, r -> r.timeToReadyMs)
+            .description("Time from JVM start until readiness reported ACCEPTING_TRAFFIC")
+            .register(meterRegistry);
+
+        boolean cds = runtime.getInputArguments().stream().anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+        boolean lazy = context.getEnvironment().getProperty("spring.main.lazy-initialization", Boolean.class, false);
+        logger.info("Time to ready: {} ms (cds={}, aot={}, lazy={}, beans={})",
+            timeToReadyMs, cds, AotDetector.useGeneratedArtifacts(), lazy, context.getBeanDefinitionCount());
+
+        if (properties.isExitOnReady()) {
+            // Exit off the startup thread, which is still publishing the event
+            Thread exit = new Thread(() -> System.exit(SpringApplication.exit(context)), "exit-on-ready");
+            exit.start();
+        }
+    }
+
+    /**
+     * @return the measured time-to-ready in milliseconds, or -1 before readiness
+     */
+    public long getTimeToReadyMs() {
+        return timeToReadyMs;
+    }
+}
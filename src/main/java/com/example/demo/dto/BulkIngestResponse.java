@@ -0,0 +1,8 @@
+package com.example.demo.dto;
+
+public record BulkIngestResponse(
+    long inserted,
+    int chunks,
+    long elapsedMs
+) {
+}
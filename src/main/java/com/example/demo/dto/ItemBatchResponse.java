@@ -0,0 +1,12 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+/**
+ * Result of a multi-get lookup: found items in request order and the ids that did not match.
+ */
+public record ItemBatchResponse(
+    List<ItemSummary> items,
+    List<Long> missing
+) {
+}
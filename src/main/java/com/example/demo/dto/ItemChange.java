@@ -0,0 +1,16 @@
+package com.example.demo.dto;
+
+import java.time.Instant;
+
+/**
+ * A row of the item change feed; deleted items are reported as tombstones.
+ */
+public record ItemChange(
+    Long id,
+    String name,
+    String description,
+    Instant updatedAt,
+    boolean deleted,
+    long changeSeq
+) {
+}
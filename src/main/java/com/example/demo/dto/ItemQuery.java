@@ -0,0 +1,183 @@
+package com.example.demo.dto;
+
+import com.example.demo.exception.InvalidRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Sorting and filtering for item listings. Only combinations that a single index can serve are accepted:
+ * at most one of {@code name} and {@code updatedAt} may be filtered, and the listing must be sorted by
+ * that field, or by {@code id} when the field is only compared for equality.
+ * Sorts on {@code name} or {@code updatedAt} are completed with {@code id} so that pages are stable.
+ * <p>
+ * Grammar: {@code sort=field[:asc|desc]}, repeatable or comma separated, and
+ * {@code filter=field:op:value}, repeatable, with ops {@code eq, gt, gte, lt, lte} and {@code prefix} for names.
+ */
+public record ItemQuery(
+    List<Filter> filters,
+    Sort sort
+) {
+    public static final ItemQuery DEFAULT = new ItemQuery(List.of(), Sort.by(Field.ID.property));
+
+    public enum Field {
+        ID("id", EnumSet.of(Operator.EQ, Operator.GT, Operator.GTE, Operator.LT, Operator.LTE)),
+        NAME("name", EnumSet.of(Operator.EQ, Operator.PREFIX)),
+        UPDATED_AT("updatedAt", EnumSet.of(Operator.EQ, Operator.GT, Operator.GTE, Operator.LT, Operator.LTE));
+
+        private final String property;
+        private final Set<Operator> operators;
+
+        Field(String property, Set<Operator> operators) {
+            this.property = property;
+            this.operators = operators;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        public static Field fromProperty(String property) {
+            for (Field field : values()) {
+                if (field.property.equals(property)) {
+                    return field;
+                }
+            }
+            throw new InvalidRequestException("Unsupported field '" + property + "'; expected one of id, name, updatedAt");
+        }
+
+        Comparable<?> parseValue(String value) {
+            try {
+                return switch (this) {
+                    case ID -> Long.valueOf(value);
+                    case NAME -> value;
+                    case UPDATED_AT -> Instant.parse(value);
+                };
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new InvalidRequestException("Invalid value '" + value + "' for field '" + property + "'");
+            }
+        }
+    }
+
+    public enum Operator {
+        EQ, GT, GTE, LT, LTE, PREFIX
+    }
+
+    public record Filter(
+        Field field,
+        Operator operator,
+        Comparable<?> value
+    ) {
+    }
+
+    /**
+     * Parse and validate the sort and filter request parameters.
+     * @param sorts sort expressions, may be null or empty
+     * @param filters filter expressions, may be null or empty
+     * @return the validated query, with the default id order when nothing was requested
+     * @throws InvalidRequestException if an expression is malformed or no index serves the combination
+     */
+    public static ItemQuery parse(List<String> sorts, List<String> filters) {
+        List<Filter> parsedFilters = new ArrayList<>();
+        if (filters != null) {
+            for (String filter : filters) {
+                parsedFilters.add(parseFilter(filter));
+            }
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        if (sorts != null) {
+            for (String sort : sorts) {
+                for (String expression : sort.split(",")) {
+                    if (!expression.isBlank()) {
+                        orders.add(parseOrder(expression.trim()));
+                    }
+                }
+            }
+        }
+        if (parsedFilters.isEmpty() && orders.isEmpty()) {
+            return DEFAULT;
+        }
+        return new ItemQuery(List.copyOf(parsedFilters), plan(parsedFilters, orders));
+    }
+
+    private static Filter parseFilter(String expression) {
+        String[] parts = expression.split(":", 3);
+        if (parts.length != 3) {
+            throw new InvalidRequestException("Invalid filter '" + expression + "'; expected field:op:value");
+        }
+        Field field = Field.fromProperty(parts[0]);
+        Operator operator;
+        try {
+            operator = Operator.valueOf(parts[1].toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Unsupported filter operator '" + parts[1] + "'");
+        }
+        if (!field.operators.contains(operator)) {
+            throw new InvalidRequestException("Operator '" + parts[1] + "' is not supported for field '"
+                + field.property + "'");
+        }
+        return new Filter(field, operator, field.parseValue(parts[2]));
+    }
+
+    private static Sort.Order parseOrder(String expression) {
+        String[] parts = expression.split(":", 2);
+        Field field = Field.fromProperty(parts[0]);
+        if (parts.length == 1) {
+            return Sort.Order.asc(field.property);
+        }
+        return switch (parts[1].toLowerCase(Locale.ROOT)) {
+            case "asc" -> Sort.Order.asc(field.property);
+            case "desc" -> Sort.Order.desc(field.property);
+            default -> throw new InvalidRequestException("Invalid sort direction '" + parts[1] + "'");
+        };
+    }
+
+    /**
+     * Check that one index serves both the filters and the order, and complete the order with id.
+     */
+    private static Sort plan(List<Filter> filters, List<Sort.Order> orders) {
+        Field indexed = null;
+        boolean equalityOnly = true;
+        for (Filter filter : filters) {
+            if (filter.field() == Field.ID) {
+                continue;
+            }
+            if (indexed != null && indexed != filter.field()) {
+                throw new InvalidRequestException("Filters on '" + indexed.property + "' and '"
+                    + filter.field().property + "' cannot be combined");
+            }
+            indexed = filter.field();
+            equalityOnly &= filter.operator() == Operator.EQ;
+        }
+
+        if (orders.isEmpty()) {
+            return indexed == null ? Sort.by(Field.ID.property) : Sort.by(indexed.property, Field.ID.property);
+        }
+
+        Field leading = Field.fromProperty(orders.get(0).getProperty());
+        Sort.Direction direction = orders.get(0).getDirection();
+        boolean valid = switch (orders.size()) {
+            case 1 -> true;
+            case 2 -> leading != Field.ID && Field.ID.property.equals(orders.get(1).getProperty());
+            default -> false;
+        };
+        if (!valid) {
+            throw new InvalidRequestException("Unsupported sort; expected a single field, optionally followed by id");
+        }
+        if (orders.get(orders.size() - 1).getDirection() != direction) {
+            throw new InvalidRequestException("Mixed sort directions are not supported");
+        }
+        if (indexed != null && leading != indexed && !(leading == Field.ID && equalityOnly)) {
+            throw new InvalidRequestException("Sorting by '" + leading.property + "' is not supported with a filter on '"
+                + indexed.property + "'");
+        }
+        return leading == Field.ID ? Sort.by(direction, Field.ID.property)
+            : Sort.by(direction, leading.property, Field.ID.property);
+    }
+}
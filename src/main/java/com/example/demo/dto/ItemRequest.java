@@ -0,0 +1,10 @@
+package com.example.demo.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record ItemRequest(
+    @NotBlank @Size(max = 255) String name,
+    @Size(max = 255) String description
+) {
+}
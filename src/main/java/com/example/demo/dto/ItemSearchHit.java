@@ -0,0 +1,7 @@
+package com.example.demo.dto;
+
+public record ItemSearchHit(
+    ItemSummary item,
+    double score
+) {
+}
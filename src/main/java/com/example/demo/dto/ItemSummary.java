@@ -0,0 +1,16 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.Item;
+
+/**
+ * Read-only view of an item, loaded by constructor projection instead of a managed entity.
+ */
+public record ItemSummary(
+    Long id,
+    String name,
+    String description
+) {
+    public static ItemSummary from(Item item) {
+        return new ItemSummary(item.getId(), item.getName(), item.getDescription());
+    }
+}
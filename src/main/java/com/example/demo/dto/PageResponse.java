@@ -0,0 +1,35 @@
+package com.example.demo.dto;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Stable page envelope for list endpoints, following the pagination contract
+ * without serializing Spring's {@code Pageable} and {@code Sort} internals.
+ */
+public record PageResponse<T>(
+    List<T> content,
+    int number,
+    int size,
+    long totalElements,
+    int totalPages,
+    boolean first,
+    boolean last,
+    boolean empty,
+    int numberOfElements
+) {
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return new PageResponse<>(
+            page.getContent(),
+            page.getNumber(),
+            page.getSize(),
+            page.getTotalElements(),
+            page.getTotalPages(),
+            page.isFirst(),
+            page.isLast(),
+            page.isEmpty(),
+            page.getNumberOfElements()
+        );
+    }
+}
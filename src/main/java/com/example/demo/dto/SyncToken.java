@@ -0,0 +1,47 @@
+package com.example.demo.dto;
+
+import com.example.demo.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque watermark for the item change feed: the position of the last change a client has seen.
+ * Changes are ordered by change sequence and then id, so the pair identifies a position exactly.
+ */
+public record SyncToken(
+    long changeSeq,
+    long id
+) {
+    /**
+     * Position before any change.
+     */
+    public static final SyncToken INITIAL = new SyncToken(0, 0);
+
+    public static SyncToken of(ItemChange change) {
+        return new SyncToken(change.changeSeq(), change.id());
+    }
+
+    /**
+     * Parse a token previously returned by {@link #encode()}.
+     * @param token the encoded token
+     * @return the decoded position
+     * @throws InvalidRequestException if the token is malformed
+     */
+    public static SyncToken decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int separator = decoded.indexOf(':');
+            long changeSeq = Long.parseLong(decoded.substring(0, separator));
+            long id = Long.parseLong(decoded.substring(separator + 1));
+            return new SyncToken(changeSeq, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("Invalid sync token: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = changeSeq + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+}
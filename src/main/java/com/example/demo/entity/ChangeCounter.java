@@ -0,0 +1,32 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Named counter behind a change feed's sequence; only mapped so the schema is generated and validated.
+ * The counter is advanced with plain SQL by {@link com.example.demo.service.ItemChangeSequence}.
+ */
+@Entity
+@Table(name = "change_counter")
+public class ChangeCounter {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private long currentValue;
+
+    public ChangeCounter() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCurrentValue() {
+        return currentValue;
+    }
+}
@@ -1,23 +1,64 @@
 package com.example.demo.entity;
 
+import com.example.demo.search.ItemSearchListener;
+import com.example.demo.service.ItemChangeSequence;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "items")
+@Table(name = "items", indexes = {
+    @Index(name = "idx_items_name_id", columnList = "name, id"),
+    @Index(name = "idx_items_updated_at_id", columnList = "updated_at, id"),
+    @Index(name = "idx_items_change_seq_id", columnList = "change_seq, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@EntityListeners({ItemChangeSequence.class, ItemSearchListener.class})
 public class Item {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
     private Long id;
 
     private String name;
 
     private String description;
 
+    /**
+     * Time of the last insert, update or deletion.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    /**
+     * Tombstone flag; deleted items are kept so change feeds can report the deletion.
+     */
+    @Column(nullable = false)
+    private boolean deleted;
+
+    /**
+     * Position of the last write in the change feed, stamped by {@link ItemChangeSequence} just before the
+     * writing transaction commits; together with the id it orders the feed. Never written by Hibernate updates.
+     */
+    @Column(name = "change_seq", nullable = false, updatable = false)
+    private long changeSeq;
+
     public Item() {
     }
 
@@ -49,4 +90,34 @@ public class Item {
     public void setDescription(String description) {
         this.description = description;
     }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    /**
+     * Turn this item into a tombstone.
+     */
+    public void markDeleted() {
+        this.deleted = true;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        // Truncated to the precision the database stores, so change tokens compare exactly
+        this.updatedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
 }
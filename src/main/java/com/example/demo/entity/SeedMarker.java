@@ -0,0 +1,43 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * Records that a dataset has been seeded, so startup can skip counting rows.
+ */
+@Entity
+@Table(name = "seed_marker")
+public class SeedMarker {
+
+    @Id
+    private String name;
+
+    private long rowCount;
+
+    private Instant seededAt;
+
+    public SeedMarker() {
+    }
+
+    public SeedMarker(String name, long rowCount, Instant seededAt) {
+        this.name = name;
+        this.rowCount = rowCount;
+        this.seededAt = seededAt;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public Instant getSeededAt() {
+        return seededAt;
+    }
+}
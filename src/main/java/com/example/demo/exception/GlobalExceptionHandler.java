@@ -1,12 +1,19 @@
 package com.example.demo.exception;
 
+import com.example.demo.diagnostics.HandledExceptionEvent;
 import com.example.demo.dto.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ServerWebInputException;
 
 import java.util.stream.Collectors;
 
@@ -19,7 +26,16 @@ public class GlobalExceptionHandler {
         String message = ex.getConstraintViolations().stream()
             .map(cv -> cv.getPropertyPath() + ": " + cv.getMessage())
             .collect(Collectors.joining(", "));
-        return new ErrorResponse("Validation failed", message, 400);
+        return handled(ex, new ErrorResponse("Validation failed", message, 400));
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleInvalidBody(MethodArgumentNotValidException ex) {
+        String message = ex.getBindingResult().getFieldErrors().stream()
+            .map(error -> error.getField() + ": " + error.getDefaultMessage())
+            .collect(Collectors.joining(", "));
+        return handled(ex, new ErrorResponse("Validation failed", message, 400));
     }
 
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
@@ -33,6 +49,62 @@ public class GlobalExceptionHandler {
             typeName,
             ex.getValue()
         );
-        return new ErrorResponse("Type Mismatch Error", message, 400);
+        return handled(ex, new ErrorResponse("Type Mismatch Error", message, 400));
+    }
+
+    /**
+     * WebFlux reports unconvertible request parameters as a {@link ServerWebInputException}.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleServerWebInput(ServerWebInputException ex) {
+        if (ex.getCause() instanceof TypeMismatchException mismatch && ex.getMethodParameter() != null) {
+            Class<?> requiredType = mismatch.getRequiredType();
+            String typeName = requiredType != null ? requiredType.getSimpleName() : "unknown";
+            String message = String.format(
+                "Parameter '%s' must be %s, but got '%s'",
+                ex.getMethodParameter().getParameterName(),
+                typeName,
+                mismatch.getValue()
+            );
+            return handled(ex, new ErrorResponse("Type Mismatch Error", message, 400));
+        }
+        return handled(ex, new ErrorResponse("Bad Request", ex.getReason(), 400));
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleInvalidRequest(InvalidRequestException ex) {
+        return handled(ex, new ErrorResponse("Invalid Request", ex.getMessage(), 400));
+    }
+
+    @ExceptionHandler(JsonProcessingException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleMalformedJson(JsonProcessingException ex) {
+        return handled(ex, new ErrorResponse("Malformed JSON", ex.getOriginalMessage(), 400));
+    }
+
+    @ExceptionHandler(ItemNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponse handleItemNotFound(ItemNotFoundException ex) {
+        return handled(ex, new ErrorResponse("Not Found", ex.getMessage(), 404));
+    }
+
+    @ExceptionHandler(WriteBufferFullException.class)
+    public ResponseEntity<ErrorResponse> handleWriteBufferFull(WriteBufferFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(handled(ex, new ErrorResponse("Service Unavailable", ex.getMessage(), 503)));
+    }
+
+    private static ErrorResponse handled(Exception ex, ErrorResponse response) {
+        HandledExceptionEvent event = new HandledExceptionEvent();
+        if (event.shouldCommit()) {
+            event.exceptionClass = ex.getClass();
+            event.message = response.message();
+            event.status = response.status();
+            event.commit();
+        }
+        return response;
     }
 }
@@ -0,0 +1,11 @@
+package com.example.demo.exception;
+
+/**
+ * Thrown when a request is well-formed HTTP but its content cannot be accepted.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.exception;
+
+/**
+ * Thrown when a requested item does not exist.
+ */
+public class ItemNotFoundException extends RuntimeException {
+
+    public ItemNotFoundException(Long id) {
+        super("Item " + id + " not found");
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.exception;
+
+/**
+ * Thrown when the write-behind buffer cannot accept another write.
+ */
+public class WriteBufferFullException extends RuntimeException {
+
+    public WriteBufferFullException(String message) {
+        super(message);
+    }
+}
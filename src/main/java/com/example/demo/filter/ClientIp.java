@@ -0,0 +1,31 @@
+package com.example.demo.filter;
+
+import java.util.function.Supplier;
+
+/**
+ * Client address resolution shared by the servlet and reactive rate limit filters.
+ */
+public final class ClientIp {
+
+    public static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private ClientIp() {
+    }
+
+    /**
+     * Take the first address of an X-Forwarded-For header, or fall back to the remote address.
+     * @param forwardedFor the X-Forwarded-For header value, may be null
+     * @param remoteAddress supplies the remote address when the header names no client
+     * @return the client IP address
+     */
+    public static String resolve(String forwardedFor, Supplier<String> remoteAddress) {
+        if (forwardedFor != null && !forwardedFor.isEmpty()) {
+            String firstIp = forwardedFor.split(",")[0].trim();
+            if (!firstIp.isEmpty()) {
+                return firstIp;
+            }
+        }
+
+        return remoteAddress.get();
+    }
+}
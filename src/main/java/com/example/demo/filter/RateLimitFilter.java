@@ -4,6 +4,7 @@ import com.example.demo.config.RateLimitProperties;
 import com.example.demo.ratelimit.RateLimitResponse;
 import com.example.demo.ratelimit.RateLimitService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,15 +22,27 @@ import java.io.IOException;
  */
 public class RateLimitFilter extends OncePerRequestFilter {
 
+    /**
+     * Request attribute holding the key the client was rate limited by.
+     */
+    public static final String CLIENT_KEY_ATTRIBUTE = RateLimitFilter.class.getName() + ".clientKey";
+
+    /**
+     * Request attribute holding the decision, {@code allowed} or {@code rejected}.
+     */
+    public static final String DECISION_ATTRIBUTE = RateLimitFilter.class.getName() + ".decision";
+
     private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
 
     private final RateLimitService rateLimitService;
     private final RateLimitProperties properties;
+    private final ObjectWriter responseWriter;
+    private final RateLimitRejectionLog rejectionLog = new RateLimitRejectionLog(logger);
 
-    public RateLimitFilter(RateLimitService rateLimitService, RateLimitProperties properties) {
+    public RateLimitFilter(RateLimitService rateLimitService, RateLimitProperties properties, ObjectMapper objectMapper) {
         this.rateLimitService = rateLimitService;
         this.properties = properties;
+        this.responseWriter = objectMapper.writerFor(RateLimitResponse.class);
     }
 
     @Override
@@ -37,19 +50,22 @@ public class RateLimitFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String clientIp = extractClientIp(request);
+        request.setAttribute(CLIENT_KEY_ATTRIBUTE, clientIp);
 
         if (rateLimitService.isAllowed(clientIp)) {
+            request.setAttribute(DECISION_ATTRIBUTE, "allowed");
             filterChain.doFilter(request, response);
         } else {
+            request.setAttribute(DECISION_ATTRIBUTE, "rejected");
             long retryAfterSeconds = rateLimitService.getRetryAfterSeconds(clientIp);
-            logger.warn("Rate limit exceeded for client IP: {}. Retry after {} seconds.", clientIp, retryAfterSeconds);
+            rejectionLog.rejected(clientIp, retryAfterSeconds);
 
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
             response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
 
             RateLimitResponse rateLimitResponse = RateLimitResponse.tooManyRequests(retryAfterSeconds);
-            objectMapper.writeValue(response.getWriter(), rateLimitResponse);
+            responseWriter.writeValue(response.getWriter(), rateLimitResponse);
         }
     }
 
@@ -68,16 +84,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
      * @param request the HTTP request
      * @return the client IP address
      */
-    private String extractClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            String firstIp = xForwardedFor.split(",")[0].trim();
-            if (!firstIp.isEmpty()) {
-                return firstIp;
-            }
-        }
-
-        return request.getRemoteAddr();
+    String extractClientIp(HttpServletRequest request) {
+        return ClientIp.resolve(request.getHeader(ClientIp.X_FORWARDED_FOR), request::getRemoteAddr);
     }
 }
@@ -0,0 +1,53 @@
+package com.example.demo.filter;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Warns about rate limit rejections at most once per interval, so a client hammering the API cannot turn
+ * every rejected request into a synchronous log write. Each warning names the latest rejected client and
+ * counts the rejections since the previous one; per-request decisions are in the access log.
+ */
+public class RateLimitRejectionLog {
+
+    static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(10);
+
+    private final Logger logger;
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+    private final LongAdder rejections = new LongAdder();
+    private final AtomicLong nextWarningNanos;
+
+    public RateLimitRejectionLog(Logger logger) {
+        this(logger, DEFAULT_INTERVAL, System::nanoTime);
+    }
+
+    RateLimitRejectionLog(Logger logger, Duration interval, LongSupplier nanoClock) {
+        this.logger = logger;
+        this.intervalNanos = interval.toNanos();
+        this.nanoClock = nanoClock;
+        this.nextWarningNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Count a rejection and warn if the interval since the last warning has passed.
+     * @param clientIp the rejected client
+     * @param retryAfterSeconds the Retry-After sent to the client
+     * @return true if a warning was logged
+     */
+    public boolean rejected(String clientIp, long retryAfterSeconds) {
+        rejections.increment();
+        long now = nanoClock.getAsLong();
+        long next = nextWarningNanos.get();
+        if (now - next < 0 || !nextWarningNanos.compareAndSet(next, now + intervalNanos)) {
+            return false;
+        }
+        logger.warn("Rate limit exceeded for client IP: {}. Retry after {} seconds. "
+            + "{} requests rejected since the last warning.", clientIp, retryAfterSeconds, rejections.sumThenReset());
+        return true;
+    }
+}
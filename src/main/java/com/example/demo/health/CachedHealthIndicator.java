@@ -0,0 +1,91 @@
+package com.example.demo.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Answers health requests from the last snapshot of a delegate indicator, which is refreshed
+ * by {@link HealthRefreshScheduler} rather than by the request. Each answer carries the snapshot time
+ * and its age; a snapshot older than the staleness budget is reported as DOWN.
+ */
+public class CachedHealthIndicator implements HealthIndicator {
+
+    private final HealthIndicator delegate;
+    private final Duration stalenessBudget;
+    private final Clock clock;
+    private final AtomicBoolean checkRunning = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+
+    public CachedHealthIndicator(HealthIndicator delegate, Duration stalenessBudget, Clock clock) {
+        this.delegate = delegate;
+        this.stalenessBudget = stalenessBudget;
+        this.clock = clock;
+    }
+
+    @Override
+    public Health health() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Health.unknown().withDetail("error", "Not checked yet").build();
+        }
+
+        Duration staleness = Duration.between(current.checkedAt(), clock.instant());
+        Health.Builder builder;
+        if (staleness.compareTo(stalenessBudget) > 0) {
+            builder = Health.down()
+                .withDetails(current.health().getDetails())
+                .withDetail("error", "Last check is older than the staleness budget of " + stalenessBudget.toMillis() + "ms");
+        } else {
+            builder = Health.status(current.health().getStatus()).withDetails(current.health().getDetails());
+        }
+        return builder
+            .withDetail("checkedAt", current.checkedAt().toString())
+            .withDetail("stalenessMs", staleness.toMillis())
+            .build();
+    }
+
+    /**
+     * Run the delegate on the given executor and store its result. A run that exceeds the timeout is stored
+     * as DOWN; no new run starts until it has returned, so a hanging check eventually turns the snapshot stale.
+     * @param executor runs the delegate
+     * @param timeout the maximum time to wait for the delegate
+     * @return completes once the snapshot has been updated, or immediately if a run is still in progress
+     */
+    public CompletableFuture<Void> refresh(Executor executor, Duration timeout) {
+        if (!checkRunning.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return delegate.health();
+                } finally {
+                    checkRunning.set(false);
+                }
+            }, executor)
+            .orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+            .handle((health, error) -> {
+                snapshot = new Snapshot(health != null ? health : failed(error, timeout), clock.instant());
+                return null;
+            });
+    }
+
+    private static Health failed(Throwable error, Duration timeout) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            return Health.down().withDetail("error", "Check timed out after " + timeout.toMillis() + "ms").build();
+        }
+        return Health.down(cause).build();
+    }
+
+    private record Snapshot(Health health, Instant checkedAt) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.health;
+
+import com.example.demo.config.HealthRefreshProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Refreshes {@link CachedHealthIndicator}s in the background, each on its own jittered schedule.
+ * Checks run on a separate worker pool so that a hanging check cannot delay the others.
+ */
+public class HealthRefreshScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthRefreshScheduler.class);
+
+    private final HealthRefreshProperties properties;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService workers;
+    private final List<HealthIndicator> delegates = new CopyOnWriteArrayList<>();
+
+    public HealthRefreshScheduler(HealthRefreshProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "health-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        AtomicInteger workerIndex = new AtomicInteger();
+        this.workers = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "health-check-" + workerIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Wrap an indicator and keep refreshing it until {@link #stop()}. The first check starts right away in the
+     * background, so registering never waits for it; until it completes the indicator reports UNKNOWN.
+     * @param delegate the indicator doing the actual check
+     * @return the cached indicator to register as health contributor
+     */
+    public CachedHealthIndicator register(HealthIndicator delegate) {
+        delegates.add(delegate);
+        CachedHealthIndicator indicator = new CachedHealthIndicator(delegate, properties.getStalenessBudget(), clock);
+        schedule(indicator, 0);
+        return indicator;
+    }
+
+    /**
+     * Stop refreshing and close delegates holding resources of their own.
+     */
+    public void stop() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+        for (HealthIndicator delegate : delegates) {
+            if (delegate instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.debug("Closing health indicator failed", e);
+                }
+            }
+        }
+    }
+
+    private void scheduleNext(CachedHealthIndicator indicator) {
+        long delayMs = properties.getInterval().toMillis();
+        long jitterMs = properties.getJitter().toMillis();
+        if (jitterMs > 0) {
+            delayMs += ThreadLocalRandom.current().nextLong(jitterMs + 1);
+        }
+        schedule(indicator, delayMs);
+    }
+
+    private void schedule(CachedHealthIndicator indicator, long delayMs) {
+        try {
+            scheduler.schedule(() -> indicator.refresh(workers, properties.getTimeout())
+                .whenComplete((result, error) -> scheduleNext(indicator)), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Stopped
+        }
+    }
+}
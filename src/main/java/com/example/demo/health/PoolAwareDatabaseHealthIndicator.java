@@ -0,0 +1,153 @@
+package com.example.demo.health;
+
+import com.example.demo.config.HealthRefreshProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Database health derived from the state of the application's Hikari pool, plus a probe on a dedicated
+ * connection outside that pool. A busy pool therefore never makes the check itself fail: saturation,
+ * waiting threads or slow connection acquisition are reported as {@link #DEGRADED}, and only a failed
+ * probe is reported as DOWN. A probe failing on the kept connection is retried once on a new connection,
+ * so a connection the server or a proxy closed while idle does not report the database DOWN.
+ */
+public class PoolAwareDatabaseHealthIndicator implements HealthIndicator, AutoCloseable {
+
+    /**
+     * The database answers, but the pool in front of it is under pressure.
+     */
+    public static final Status DEGRADED = new Status("DEGRADED");
+
+    static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    private final HikariDataSource pool;
+    private final SingleConnectionDataSource probe;
+    private final MeterRegistry meterRegistry;
+    private final HealthRefreshProperties.Database thresholds;
+
+    /**
+     * @param pool the application pool to inspect; never borrowed from. Its settings are used to open
+     *             the dedicated probe connection.
+     * @param meterRegistry the registry Hikari records its acquire timer in
+     * @param thresholds when to report DEGRADED
+     */
+    public PoolAwareDatabaseHealthIndicator(HikariDataSource pool, MeterRegistry meterRegistry,
+                                            HealthRefreshProperties.Database thresholds) {
+        this.pool = pool;
+        this.probe = new SingleConnectionDataSource(pool.getJdbcUrl(), pool.getUsername(), pool.getPassword(), true);
+        if (pool.getDriverClassName() != null) {
+            this.probe.setDriverClassName(pool.getDriverClassName());
+        }
+        this.meterRegistry = meterRegistry;
+        this.thresholds = thresholds;
+    }
+
+    @Override
+    public Health health() {
+        Map<String, Object> poolDetails = new LinkedHashMap<>();
+        List<String> pressure = new ArrayList<>();
+        inspectPool(poolDetails, pressure);
+
+        Health.Builder builder;
+        try {
+            String database = probeWithRetry();
+            builder = pressure.isEmpty() ? Health.up() : Health.status(DEGRADED).withDetail("reasons", pressure);
+            builder.withDetail("database", database);
+        } catch (SQLException | RuntimeException e) {
+            builder = Health.down(e);
+        }
+        return builder.withDetail("pool", poolDetails).build();
+    }
+
+    @Override
+    public void close() {
+        probe.destroy();
+    }
+
+    private void inspectPool(Map<String, Object> details, List<String> pressure) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        int max = pool.getMaximumPoolSize();
+        details.put("name", pool.getPoolName());
+        details.put("max", max);
+        if (mxBean == null) {
+            details.put("state", "not started");
+            return;
+        }
+
+        int active = mxBean.getActiveConnections();
+        int pending = mxBean.getThreadsAwaitingConnection();
+        double saturation = max > 0 ? (double) active / max : 0;
+        details.put("active", active);
+        details.put("idle", mxBean.getIdleConnections());
+        details.put("total", mxBean.getTotalConnections());
+        details.put("pending", pending);
+        details.put("saturation", Math.round(saturation * 100) / 100.0);
+
+        if (saturation >= thresholds.getDegradedSaturation()) {
+            pressure.add("pool saturation " + Math.round(saturation * 100) + "%");
+        }
+        if (pending > 0) {
+            pressure.add(pending + " threads waiting for a connection");
+        }
+
+        Timer acquire = meterRegistry.find(ACQUIRE_TIMER).tag("pool", pool.getPoolName()).timer();
+        if (acquire != null) {
+            HistogramSnapshot snapshot = acquire.takeSnapshot();
+            Map<String, Object> acquireDetails = new LinkedHashMap<>();
+            acquireDetails.put("count", snapshot.count());
+            acquireDetails.put("meanMs", snapshot.mean(TimeUnit.MILLISECONDS));
+            acquireDetails.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                if (percentile.percentile() == 0.99) {
+                    double p99Ms = percentile.value(TimeUnit.MILLISECONDS);
+                    acquireDetails.put("p99Ms", p99Ms);
+                    if (p99Ms >= thresholds.getDegradedAcquireP99().toMillis()) {
+                        pressure.add("connection acquire p99 " + Math.round(p99Ms) + "ms");
+                    }
+                }
+            }
+            details.put("acquire", acquireDetails);
+        }
+    }
+
+    private String probeWithRetry() throws SQLException {
+        try {
+            return runProbe();
+        } catch (SQLException | RuntimeException e) {
+            probe.resetConnection();
+        }
+        try {
+            return runProbe();
+        } catch (SQLException | RuntimeException e) {
+            probe.resetConnection();
+            throw e;
+        }
+    }
+
+    private String runProbe() throws SQLException {
+        int timeoutSeconds = (int) Math.max(1, thresholds.getProbeTimeout().toSeconds());
+        // The probe data source suppresses close(), so the dedicated connection is reused
+        try (Connection connection = probe.getConnection()) {
+            if (!connection.isValid(timeoutSeconds)) {
+                throw new SQLException("Probe connection is not valid");
+            }
+            return connection.getMetaData().getDatabaseProductName();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.json;
+
+import com.example.demo.dto.ItemSummary;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link ItemSummary} directly to the generator with pre-encoded field names,
+ * avoiding reflective property access on the listing hot path.
+ */
+@JsonComponent
+public class ItemSummarySerializer extends StdSerializer<ItemSummary> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+
+    public ItemSummarySerializer() {
+        super(ItemSummary.class);
+    }
+
+    @Override
+    public void serialize(ItemSummary item, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(item);
+        gen.writeFieldName(ID);
+        if (item.id() != null) {
+            gen.writeNumber(item.id());
+        } else {
+            gen.writeNull();
+        }
+        gen.writeFieldName(NAME);
+        gen.writeString(item.name());
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(item.description());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.demo.json;
+
+import com.example.demo.dto.PageResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes {@link PageResponse} envelopes field by field with pre-encoded names.
+ * The content serializer is resolved once per element type rather than per element.
+ */
+@JsonComponent
+public class PageResponseSerializer extends StdSerializer<PageResponse<?>> {
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString NUMBER = new SerializedString("number");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializedString FIRST = new SerializedString("first");
+    private static final SerializedString LAST = new SerializedString("last");
+    private static final SerializedString EMPTY = new SerializedString("empty");
+    private static final SerializedString NUMBER_OF_ELEMENTS = new SerializedString("numberOfElements");
+
+    @SuppressWarnings("unchecked")
+    public PageResponseSerializer() {
+        super((Class<PageResponse<?>>) (Class<?>) PageResponse.class);
+    }
+
+    @Override
+    public void serialize(PageResponse<?> page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(page);
+        gen.writeFieldName(CONTENT);
+        writeContent(page.content(), gen, provider);
+        gen.writeFieldName(NUMBER);
+        gen.writeNumber(page.number());
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(page.size());
+        gen.writeFieldName(TOTAL_ELEMENTS);
+        gen.writeNumber(page.totalElements());
+        gen.writeFieldName(TOTAL_PAGES);
+        gen.writeNumber(page.totalPages());
+        gen.writeFieldName(FIRST);
+        gen.writeBoolean(page.first());
+        gen.writeFieldName(LAST);
+        gen.writeBoolean(page.last());
+        gen.writeFieldName(EMPTY);
+        gen.writeBoolean(page.empty());
+        gen.writeFieldName(NUMBER_OF_ELEMENTS);
+        gen.writeNumber(page.numberOfElements());
+        gen.writeEndObject();
+    }
+
+    private void writeContent(List<?> content, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartArray(content, content.size());
+        Class<?> elementType = null;
+        JsonSerializer<Object> elementSerializer = null;
+        for (Object element : content) {
+            if (element == null) {
+                gen.writeNull();
+                continue;
+            }
+            if (element.getClass() != elementType) {
+                elementType = element.getClass();
+                elementSerializer = provider.findValueSerializer(elementType);
+            }
+            elementSerializer.serialize(element, gen, provider);
+        }
+        gen.writeEndArray();
+    }
+}
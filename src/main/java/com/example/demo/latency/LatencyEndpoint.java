@@ -0,0 +1,34 @@
+package com.example.demo.latency;
+
+import com.example.demo.config.LatencyProperties;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint at {@code /actuator/latency} listing latency percentiles per route, method and status
+ * over the rolling window.
+ */
+@Endpoint(id = "latency")
+public class LatencyEndpoint {
+
+    /**
+     * @param window the time span the percentiles cover, as an ISO-8601 duration
+     */
+    public record LatencyReport(String window, List<RouteLatencyRecorder.Snapshot> routes) {
+    }
+
+    private final RouteLatencyRecorder recorder;
+    private final LatencyProperties properties;
+
+    public LatencyEndpoint(RouteLatencyRecorder recorder, LatencyProperties properties) {
+        this.recorder = recorder;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public LatencyReport latency() {
+        return new LatencyReport(properties.getWindow().toString(), recorder.snapshot());
+    }
+}
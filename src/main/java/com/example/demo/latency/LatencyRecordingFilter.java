@@ -0,0 +1,36 @@
+package com.example.demo.latency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Servlet filter that records the latency of every request into {@link RouteLatencyRecorder}, keyed by the
+ * route pattern Spring MVC matched rather than the raw path, so ids in paths do not create new series.
+ */
+public class LatencyRecordingFilter extends OncePerRequestFilter {
+
+    private final RouteLatencyRecorder recorder;
+
+    public LatencyRecordingFilter(RouteLatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String route = pattern != null ? pattern.toString() : RouteLatencyRecorder.UNMATCHED;
+            recorder.record(route, request.getMethod(), response.getStatus(), System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.demo.latency;
+
+import com.example.demo.config.LatencyProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import org.HdrHistogram.Histogram;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Rolling latency histograms per route, HTTP method and status code.
+ * <p>
+ * The recording path does no allocation once a series exists: the route pattern is looked up in a map,
+ * and method and status select a slot in that route's array of {@link WindowedHistogram}s.
+ * A series is created, and registered with Micrometer as {@code http.server.latency.window}, the first
+ * time its combination is seen.
+ */
+public class RouteLatencyRecorder {
+
+    /**
+     * Route of requests no handler matched, including those rejected by filters before dispatch.
+     */
+    public static final String UNMATCHED = "UNMATCHED";
+
+    static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private static final String[] METHODS = {"GET", "POST", "PUT", "PATCH", "DELETE", "OTHER"};
+    private static final int STATUS_CODES = 600;
+
+    /**
+     * Latency distribution of one series over the current window.
+     */
+    public record Snapshot(String route, String method, int status, long count,
+                           double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+
+    private record Series(String route, String method, int status, WindowedHistogram histogram) {
+    }
+
+    private final ConcurrentHashMap<String, AtomicReferenceArray<WindowedHistogram>> routes = new ConcurrentHashMap<>();
+    private final List<Series> series = new CopyOnWriteArrayList<>();
+    private final LatencyProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService rotation;
+
+    public RouteLatencyRecorder(LatencyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.rotation = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "latency-window-rotation");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public void start() {
+        long sliceMillis = Math.max(1, properties.getWindow().toMillis() / properties.getSlices());
+        rotation.scheduleAtFixedRate(this::rotate, sliceMillis, sliceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        rotation.shutdownNow();
+    }
+
+    /**
+     * Record the latency of one request.
+     * @param route the matched route pattern, or {@link #UNMATCHED}
+     * @param method the HTTP method
+     * @param status the response status code
+     * @param nanos the request latency
+     */
+    public void record(String route, String method, int status, long nanos) {
+        AtomicReferenceArray<WindowedHistogram> histograms = routes.get(route);
+        if (histograms == null) {
+            histograms = routes.computeIfAbsent(route, key -> new AtomicReferenceArray<>(METHODS.length * STATUS_CODES));
+        }
+        int methodIndex = methodIndex(method);
+        int statusIndex = status > 0 && status < STATUS_CODES ? status : 0;
+        int slot = methodIndex * STATUS_CODES + statusIndex;
+        WindowedHistogram histogram = histograms.get(slot);
+        if (histogram == null) {
+            histogram = create(route, histograms, slot, METHODS[methodIndex], statusIndex);
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Advance every series' window by one slice. Called on schedule; public so tests can advance it directly.
+     */
+    public void rotate() {
+        for (Series s : series) {
+            s.histogram().rotate();
+        }
+    }
+
+    /**
+     * @return every series, ordered by route, method and status
+     */
+    public List<Snapshot> snapshot() {
+        return series.stream()
+            .sorted(Comparator.comparing(Series::route).thenComparing(Series::method).thenComparingInt(Series::status))
+            .map(s -> {
+                Histogram window = s.histogram().window();
+                return new Snapshot(s.route(), s.method(), s.status(), window.getTotalCount(),
+                    millis(window.getValueAtPercentile(50)), millis(window.getValueAtPercentile(90)),
+                    millis(window.getValueAtPercentile(99)), millis(window.getValueAtPercentile(99.9)),
+                    millis(window.getMaxValue()));
+            })
+            .toList();
+    }
+
+    private synchronized WindowedHistogram create(String route, AtomicReferenceArray<WindowedHistogram> histograms,
+                                                  int slot, String method, int status) {
+        WindowedHistogram existing = histograms.get(slot);
+        if (existing != null) {
+            return existing;
+        }
+        WindowedHistogram histogram = new WindowedHistogram(properties.getHighestTrackable().toNanos(),
+            properties.getSignificantDigits(), properties.getSlices());
+        Tags tags = Tags.of("route", route, "method", method, "status", String.valueOf(status));
+        for (double percentile : PERCENTILES) {
+            timeGauge(histogram, tags.and("quantile", String.valueOf(percentile / 100)),
+                h -> h.window().getValueAtPercentile(percentile));
+        }
+        timeGauge(histogram, tags.and("quantile", "max"), h -> h.window().getMaxValue());
+        Gauge.builder("http.server.latency.window.count", histogram, h -> h.window().getTotalCount())
+            .description("Requests recorded in the current latency window")
+            .tags(tags)
+            .register(meterRegistry);
+
+        series.add(new Series(route, method, status, histogram));
+        histograms.set(slot, histogram);
+        return histogram;
+    }
+
+    private void timeGauge(WindowedHistogram histogram, Tags tags, ToDoubleFunction<WindowedHistogram> nanos) {
+        TimeGauge.builder("http.server.latency.window", histogram, TimeUnit.NANOSECONDS, nanos)
+            .description("Request latency percentiles over the current window")
+            .tags(tags)
+            .register(meterRegistry);
+    }
+
+    private static int methodIndex(String method) {
+        return switch (method) {
+            case "GET" -> 0;
+            case "POST" -> 1;
+            case "PUT" -> 2;
+            case "PATCH" -> 3;
+            case "DELETE" -> 4;
+            default -> 5;
+        };
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
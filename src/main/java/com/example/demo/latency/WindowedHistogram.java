@@ -0,0 +1,73 @@
+package com.example.demo.latency;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latency distribution over a rolling window, built from fixed time slices.
+ * <p>
+ * Recording goes to an HdrHistogram {@link Recorder}: wait-free and allocation-free, its buckets are allocated
+ * up front. {@link #rotate()} swaps the recorder's active histogram out as the newest slice, drops the
+ * oldest one, and sums the slices into the snapshot that readers see. The snapshot therefore lags
+ * recording by at most one slice.
+ */
+public class WindowedHistogram {
+
+    static final long LOWEST_DISCERNIBLE_NANOS = 1_000;
+
+    private final long highestTrackableNanos;
+    private final int significantDigits;
+    private final Recorder recorder;
+    private final Histogram[] slices;
+    private int newest = -1;
+    private volatile Histogram window;
+
+    /**
+     * @param highestTrackableNanos longer latencies are recorded as this value
+     * @param significantDigits value precision, 1 to 5 significant decimal digits
+     * @param sliceCount number of slices kept in the window
+     */
+    public WindowedHistogram(long highestTrackableNanos, int significantDigits, int sliceCount) {
+        this.highestTrackableNanos = highestTrackableNanos;
+        this.significantDigits = significantDigits;
+        this.recorder = new Recorder(LOWEST_DISCERNIBLE_NANOS, highestTrackableNanos, significantDigits);
+        this.slices = new Histogram[sliceCount];
+        this.window = newHistogram();
+    }
+
+    /**
+     * Record one latency. Safe to call from any number of threads concurrently with {@link #rotate()}.
+     */
+    public void record(long nanos) {
+        recorder.recordValue(Math.max(0, Math.min(nanos, highestTrackableNanos)));
+    }
+
+    /**
+     * Close the current slice and rebuild the window snapshot from the retained slices.
+     */
+    public synchronized void rotate() {
+        int next = (newest + 1) % slices.length;
+        // The evicted slice came from the recorder, so it can be recycled as the next active histogram
+        slices[next] = recorder.getIntervalHistogram(slices[next]);
+        newest = next;
+
+        Histogram sum = newHistogram();
+        for (Histogram slice : slices) {
+            if (slice != null) {
+                sum.add(slice);
+            }
+        }
+        window = sum;
+    }
+
+    /**
+     * @return the distribution over the retained slices; never modified after it is returned
+     */
+    public Histogram window() {
+        return window;
+    }
+
+    private Histogram newHistogram() {
+        return new Histogram(LOWEST_DISCERNIBLE_NANOS, highestTrackableNanos, significantDigits);
+    }
+}
@@ -1,15 +1,21 @@
 package com.example.demo.ratelimit;
 
 import com.example.demo.config.RateLimitProperties;
+import com.example.demo.diagnostics.RateLimitCleanupEvent;
+import com.example.demo.diagnostics.RateLimitDecisionEvent;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -26,11 +32,29 @@ public class RateLimitService {
 
     public RateLimitService(RateLimitProperties properties) {
         this.properties = properties;
-        this.cleanupExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        this.cleanupExecutor = Executors.newSingleThreadScheduledExecutor(cleanupThreadFactory(false));
+    }
+
+    /**
+     * Run the cleanup task on a virtual thread when virtual threads are enabled
+     * ({@code spring.threads.virtual.enabled}).
+     */
+    @Autowired
+    public RateLimitService(RateLimitProperties properties, Environment environment) {
+        this.properties = properties;
+        this.cleanupExecutor = Executors.newSingleThreadScheduledExecutor(
+            cleanupThreadFactory(Threading.VIRTUAL.isActive(environment)));
+    }
+
+    private static ThreadFactory cleanupThreadFactory(boolean virtualThreads) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name("rate-limit-cleanup").factory();
+        }
+        return r -> {
             Thread t = new Thread(r, "rate-limit-cleanup");
             t.setDaemon(true);
             return t;
-        });
+        };
     }
 
     @PostConstruct
@@ -63,10 +87,20 @@ public class RateLimitService {
             return true;
         }
 
-        long currentTime = System.currentTimeMillis();
         long windowDurationMs = properties.getWindowDurationMs();
         int limit = properties.getRequestsPerMinute();
+        // Allocation and timing are eliminated by the JIT while no recording enables the event
+        RateLimitDecisionEvent event = new RateLimitDecisionEvent();
+        event.begin();
+
+        // Fast path without the bin lock taken by compute(): a live window only needs an atomic increment
+        RateLimitCounter current = counters.get(clientIp);
+        if (current != null && !current.isExpired(windowDurationMs)) {
+            return decided(event, clientIp, current.increment(), limit, false);
+        }
 
+        long currentTime = System.currentTimeMillis();
+        boolean[] windowReset = new boolean[1];
         RateLimitCounter counter = counters.compute(clientIp, (key, existing) -> {
             if (existing == null) {
                 RateLimitCounter newCounter = new RateLimitCounter(clientIp, currentTime);
@@ -75,7 +109,7 @@ public class RateLimitService {
             }
 
             if (existing.isExpired(windowDurationMs)) {
-                logger.debug("Rate limit window reset for client IP: {}", clientIp);
+                windowReset[0] = true;
                 existing.reset(currentTime);
             }
 
@@ -83,7 +117,26 @@ public class RateLimitService {
             return existing;
         });
 
-        return counter.getRequestCount() <= limit;
+        // Logged outside compute() so a blocking appender never runs while the bin lock is held
+        if (windowReset[0]) {
+            logger.debug("Rate limit window reset for client IP: {}", clientIp);
+        }
+        return decided(event, clientIp, counter.getRequestCount(), limit, true);
+    }
+
+    private static boolean decided(RateLimitDecisionEvent event, String clientIp, int requestCount, int limit,
+                                   boolean computed) {
+        boolean allowed = requestCount <= limit;
+        event.end();
+        if (event.shouldCommit()) {
+            event.clientKey = clientIp;
+            event.allowed = allowed;
+            event.requestCount = requestCount;
+            event.limit = limit;
+            event.computed = computed;
+            event.commit();
+        }
+        return allowed;
     }
 
     /**
@@ -118,10 +171,18 @@ public class RateLimitService {
      * Remove expired entries from the counter map (for cleanup task).
      */
     public void cleanupExpiredEntries() {
+        RateLimitCleanupEvent event = new RateLimitCleanupEvent();
+        event.begin();
         int sizeBefore = counters.size();
         long windowDurationMs = properties.getWindowDurationMs();
         counters.entrySet().removeIf(entry -> entry.getValue().isExpired(windowDurationMs));
         int removed = sizeBefore - counters.size();
+        event.end();
+        if (event.shouldCommit()) {
+            event.scanned = sizeBefore;
+            event.removed = removed;
+            event.commit();
+        }
         if (removed > 0) {
             logger.debug("Cleaned up {} expired rate limit entries", removed);
         }
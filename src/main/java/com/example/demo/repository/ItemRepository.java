@@ -1,9 +1,97 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.ItemChange;
+import com.example.demo.dto.ItemSummary;
 import com.example.demo.entity.Item;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, JpaSpecificationExecutor<Item>, ItemSummaryQueries {
+
+    /**
+     * Stream all live items in id order through a server-side cursor, bypassing the second-level cache.
+     * Must be called inside a transaction and the stream must be closed by the caller.
+     * @return a lazily fetched stream of read-only items
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select i from Item i where i.deleted = false order by i.id")
+    Stream<Item> streamAllOrderedById();
+
+    /**
+     * Load a page of item summaries by constructor projection, without hydrating managed entities.
+     * Results are held in the query cache until the items table changes.
+     * @param pageable the page to load
+     * @return a page of read-only summaries in id order
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true")
+    })
+    @Query(value = "select new com.example.demo.dto.ItemSummary(i.id, i.name, i.description) from Item i"
+                 + " where i.deleted = false order by i.id",
+           countQuery = "select count(i) from Item i where i.deleted = false")
+    Page<ItemSummary> findSummaries(Pageable pageable);
+
+    /**
+     * Load the content of a summary page without counting, for callers that time the count separately.
+     * @param pageable the page to load
+     * @return the read-only summaries of the page in id order
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true")
+    })
+    @Query("select new com.example.demo.dto.ItemSummary(i.id, i.name, i.description) from Item i"
+           + " where i.deleted = false order by i.id")
+    List<ItemSummary> findSummaryContent(Pageable pageable);
+
+    /**
+     * @return the number of live items
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select count(i) from Item i where i.deleted = false")
+    long countLive();
+
+    /**
+     * Stream the live items of an id range as change records, bypassing the second-level cache.
+     * Must be called inside a transaction and the stream must be closed by the caller.
+     * @param fromId the first id, inclusive
+     * @param toId the last id, exclusive
+     * @return a lazily fetched stream of items in the range
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select new com.example.demo.dto.ItemChange(i.id, i.name, i.description, i.updatedAt, i.deleted,"
+         + " i.changeSeq) from Item i where i.deleted = false and i.id >= :fromId and i.id < :toId")
+    Stream<ItemChange> streamChangesInRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * @return the highest item id, or null when the table is empty
+     */
+    @Query("select max(i.id) from Item i")
+    Long findMaxId();
+
+    /**
+     * @return the highest change sequence, or null when the table is empty
+     */
+    @Query("select max(i.changeSeq) from Item i")
+    Long findMaxChangeSeq();
 }
@@ -0,0 +1,69 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.ItemQuery;
+import com.example.demo.entity.Item;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria predicates for item listings.
+ */
+public final class ItemSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ItemSpecifications() {
+    }
+
+    /**
+     * Live items matching every filter of the query.
+     * @param query a validated listing query
+     * @return the combined predicate
+     */
+    public static Specification<Item> matching(ItemQuery query) {
+        return (root, criteriaQuery, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(query.filters().size() + 1);
+            predicates.add(cb.isFalse(root.get("deleted")));
+            for (ItemQuery.Filter filter : query.filters()) {
+                predicates.add(toPredicate(filter, root, cb));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate toPredicate(ItemQuery.Filter filter, Root<Item> root, CriteriaBuilder cb) {
+        Path path = root.get(filter.field().property());
+        Comparable value = filter.value();
+        return switch (filter.operator()) {
+            case EQ -> cb.equal(path, value);
+            case GT -> cb.greaterThan(path, value);
+            case GTE -> cb.greaterThanOrEqualTo(path, value);
+            case LT -> cb.lessThan(path, value);
+            case LTE -> cb.lessThanOrEqualTo(path, value);
+            // A range scan on idx_items_name_id, since names use the C collation on Postgres (V5)
+            case PREFIX -> cb.like(path, escapeLike((String) value) + "%", LIKE_ESCAPE);
+        };
+    }
+
+    /**
+     * Escape LIKE wildcards with a backslash, the default escape character of both H2 and Postgres.
+     */
+    static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.entity.Item;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Summary projections for criteria-built listings, which derived and annotated queries cannot express.
+ */
+public interface ItemSummaryQueries {
+
+    /**
+     * Load a page of item summaries matching a specification by constructor projection, without
+     * hydrating managed entities.
+     * @param specification the items to include
+     * @param pageable the page to load, including its sort
+     * @return a page of read-only summaries
+     */
+    Page<ItemSummary> findSummaries(Specification<Item> specification, Pageable pageable);
+}
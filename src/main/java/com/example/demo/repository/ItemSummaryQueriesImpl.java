@@ -0,0 +1,52 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.entity.Item;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+class ItemSummaryQueriesImpl implements ItemSummaryQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ItemSummary> findSummaries(Specification<Item> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ItemSummary> select = cb.createQuery(ItemSummary.class);
+        Root<Item> root = select.from(Item.class);
+        select.select(cb.construct(ItemSummary.class, root.get("id"), root.get("name"), root.get("description")))
+            .where(specification.toPredicate(root, select, cb))
+            .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<ItemSummary> query = entityManager.createQuery(select)
+            .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        List<ItemSummary> content = query.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    private long count(Specification<Item> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> count = cb.createQuery(Long.class);
+        Root<Item> root = count.from(Item.class);
+        count.select(cb.count(root)).where(specification.toPredicate(root, count, cb));
+        return entityManager.createQuery(count).getSingleResult();
+    }
+}
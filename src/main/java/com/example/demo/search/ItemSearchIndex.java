@@ -0,0 +1,743 @@
+package com.example.demo.search;
+
+import com.example.demo.config.SearchProperties;
+import com.example.demo.dto.ItemSearchHit;
+import com.example.demo.dto.ItemSummary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * In-memory inverted index over item names and descriptions.
+ * Each query term matches index terms it is a prefix of; documents must match every query term.
+ * A query term scores the best of its matching index terms in a document: a tf-idf weight, with name matches
+ * counting more than description matches and exact term matches more than prefix expansions. A query term
+ * expands to at most {@code max-prefix-expansions} index terms: the term itself and the prefix matches found
+ * in the most documents. Results say when a query term had to drop expansions.
+ * <p>
+ * Postings are primitive arrays in impact order, highest weight first and then by item id, so a search reads
+ * them best entry first and stops once no unread entry can still reach the top hits. Updates add entries
+ * rather than rewriting postings; entries left behind are skipped when read and compacted away once they
+ * outnumber the live ones. Prefixes of up to {@value #RANKED_PREFIX_LENGTH} characters keep their most frequent
+ * terms ranked, so short prefixes do not walk every matching term; longer prefixes match few terms and are
+ * ranked when queried. Searches share a read lock, writes take the write lock.
+ * <p>
+ * Items are versioned by their change sequence, so writes arriving out of order, from the initial load, the
+ * entity listener or the change feed, settle on the last committed version. Deleted items leave a tombstone
+ * with their version until {@link #dropTombstones(long)}, so an older copy read before the delete cannot bring
+ * them back.
+ */
+@Component
+public class ItemSearchIndex {
+
+    static final int NAME_WEIGHT = 3;
+    static final int DESCRIPTION_WEIGHT = 1;
+    static final double PREFIX_PENALTY = 0.5;
+    static final int RANKED_PREFIX_LENGTH = 3;
+
+    // A posting entry packs the inverted weight above the item id, so ascending order is impact order
+    private static final int ID_BITS = 47;
+    private static final long ID_MASK = (1L << ID_BITS) - 1;
+    private static final int MAX_WEIGHT = (1 << 16) - 1;
+
+    private static final Comparator<Postings> MOST_FREQUENT = Comparator.<Postings>comparingInt(p -> -p.documents)
+        .thenComparing(p -> p.term);
+    private static final Comparator<Cursor> BEST_ENTRY = (left, right) -> left.impact != right.impact
+        ? Double.compare(right.impact, left.impact)
+        : Long.compare(left.entry & ID_MASK, right.entry & ID_MASK);
+    private static final Comparator<Hit> WORST_HIT = (left, right) -> left.score() != right.score()
+        ? Double.compare(left.score(), right.score())
+        : Long.compare(right.id(), left.id());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    private final Map<String, RankedPrefix> rankedPrefixes = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<Long, Long> tombstones = new HashMap<>();
+    private final int maxPrefixExpansions;
+
+    /**
+     * Hits of a search, and whether any query term matched more index terms than were expanded.
+     */
+    public record SearchResult(List<ItemSearchHit> hits, boolean truncated) {
+
+        static final SearchResult EMPTY = new SearchResult(List.of(), false);
+    }
+
+    public ItemSearchIndex(SearchProperties properties) {
+        this.maxPrefixExpansions = properties.getMaxPrefixExpansions();
+    }
+
+    /**
+     * Add, replace or delete an item. Versions no newer than the one already indexed or deleted are ignored,
+     * so a slow initial load cannot overwrite a newer incremental update or bring back a deleted item.
+     * A deletion also applies at the indexed version, which is all a row removed outright still has.
+     * @param id the item id
+     * @param name the item name
+     * @param description the item description
+     * @param changeSeq the item version, its position in the change feed
+     * @param deleted true to remove the item from the index
+     */
+    public void index(Long id, String name, String description, long changeSeq, boolean deleted) {
+        lock.writeLock().lock();
+        try {
+            Document existing = documents.get(id);
+            Long deletedAt = existing == null ? tombstones.get(id) : null;
+            boolean outdated = existing != null
+                ? changeSeq < existing.changeSeq() || changeSeq == existing.changeSeq() && !deleted
+                : deletedAt != null && changeSeq <= deletedAt;
+            if (outdated) {
+                return;
+            }
+            Map<String, Integer> weights = deleted ? Map.of() : termWeights(name, description);
+            List<Postings> compact = new ArrayList<>();
+            if (existing != null) {
+                dropChangedTerms(existing, weights, compact);
+            }
+            if (deleted) {
+                documents.remove(id);
+                tombstones.put(id, changeSeq);
+            } else {
+                tombstones.remove(id);
+                documents.put(id, addTerms(id, name, description, changeSeq, existing, weights));
+            }
+            for (Postings p : compact) {
+                p.compact(entry -> isCurrent(entry, p));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forget deletions older than a change sequence. Call it once no copy of an item older than that can
+     * still arrive, that is once the initial load and every change before it have been indexed.
+     * @param before the change sequence below which tombstones are dropped
+     * @return the number of tombstones dropped
+     */
+    public int dropTombstones(long before) {
+        lock.writeLock().lock();
+        try {
+            int count = tombstones.size();
+            tombstones.values().removeIf(changeSeq -> changeSeq < before);
+            return count - tombstones.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove every item from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            tombstones.clear();
+            postings.clear();
+            rankedPrefixes.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of indexed items
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the best matching items.
+     * @param query free text; every term is matched as a prefix
+     * @param limit the maximum number of hits
+     * @return hits ordered by descending score, then ascending id
+     */
+    public SearchResult search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return SearchResult.EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<QueryTerm> queryTerms = new ArrayList<>(terms.size());
+            boolean truncated = false;
+            for (String term : terms) {
+                QueryTerm queryTerm = expand(term);
+                truncated |= queryTerm.truncated;
+                if (queryTerm.cursors.length == 0) {
+                    return new SearchResult(List.of(), truncated);
+                }
+                queryTerms.add(queryTerm);
+            }
+            return new SearchResult(topHits(queryTerms, limit), truncated);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Split text into lower-case alphanumeric terms.
+     * @param text the text to split, may be null
+     * @return the terms in order of appearance
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letterOrDigit = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letterOrDigit && start < 0) {
+                start = i;
+            } else if (!letterOrDigit && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Select the index terms a query term expands to: the term itself when indexed, then the prefix
+     * matches with the largest postings, so a short prefix keeps the expansions covering the most documents.
+     */
+    private QueryTerm expand(String term) {
+        Postings exact = postings.get(term);
+        Postings[] candidates;
+        int matched;
+        if (term.length() <= RANKED_PREFIX_LENGTH) {
+            RankedPrefix ranked = rankedPrefixes.get(term);
+            if (ranked == null) {
+                return QueryTerm.NONE;
+            }
+            RankedTerms rankedTerms = ranked.rankedTerms(postings, term);
+            candidates = rankedTerms.terms();
+            matched = rankedTerms.matches();
+        } else {
+            RankedTerms rankedTerms = mostFrequent(
+                postings.subMap(term, false, term + Character.MAX_VALUE, false).values(), maxPrefixExpansions);
+            candidates = rankedTerms.terms();
+            matched = rankedTerms.matches() + (exact != null ? 1 : 0);
+        }
+
+        List<Postings> selected = new ArrayList<>(Math.min(maxPrefixExpansions, matched));
+        if (exact != null) {
+            selected.add(exact);
+        }
+        for (Postings candidate : candidates) {
+            if (selected.size() == maxPrefixExpansions) {
+                break;
+            }
+            if (candidate != exact) {
+                selected.add(candidate);
+            }
+        }
+
+        int documentCount = Math.max(1, documents.size());
+        QueryTerm queryTerm = new QueryTerm(selected.size(), matched > selected.size());
+        for (Postings p : selected) {
+            double idf = Math.log(1.0 + (double) documentCount / Math.max(1, p.documents));
+            queryTerm.add(p, p == exact ? idf : idf * PREFIX_PENALTY);
+        }
+        return queryTerm;
+    }
+
+    /**
+     * Read the expanded postings best entry first, scoring each item the first time it is seen, until every
+     * posting of some query term is exhausted or no unseen item can outrank the current top hits.
+     */
+    private List<ItemSearchHit> topHits(List<QueryTerm> queryTerms, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Cursor> frontier = new PriorityQueue<>(BEST_ENTRY);
+        for (QueryTerm queryTerm : queryTerms) {
+            for (Cursor cursor : queryTerm.cursors) {
+                if (cursor.advance()) {
+                    frontier.add(cursor);
+                }
+            }
+        }
+
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, WORST_HIT);
+        Set<Long> seen = new HashSet<>();
+        Cursor cursor;
+        while ((cursor = frontier.poll()) != null) {
+            long id = cursor.entry & ID_MASK;
+            if (cursor.advance()) {
+                frontier.add(cursor);
+            }
+            if (seen.add(id)) {
+                Document document = documents.get(id);
+                double score = document != null ? document.score(queryTerms) : -1;
+                if (score >= 0) {
+                    top.offer(new Hit(id, score, document));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+            if (isComplete(queryTerms, top, limit)) {
+                break;
+            }
+        }
+
+        List<ItemSearchHit> hits = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            Hit hit = top.poll();
+            hits.add(new ItemSearchHit(
+                new ItemSummary(hit.id(), hit.document().name(), hit.document().description()), hit.score()));
+        }
+        Collections.reverse(hits);
+        return hits;
+    }
+
+    /**
+     * An unseen item scores at most the sum over query terms of their best unread entry. If it reaches that
+     * sum exactly, it sits at the head of an unread posting for every query term, so its id is no lower than
+     * those heads; it only outranks the current last hit if that hit has a higher id.
+     */
+    private static boolean isComplete(List<QueryTerm> queryTerms, PriorityQueue<Hit> top, int limit) {
+        double threshold = 0;
+        long tieId = 0;
+        for (QueryTerm queryTerm : queryTerms) {
+            double bound = -1;
+            long boundId = Long.MAX_VALUE;
+            for (Cursor cursor : queryTerm.cursors) {
+                if (cursor.exhausted) {
+                    continue;
+                }
+                long id = cursor.entry & ID_MASK;
+                if (cursor.impact > bound) {
+                    bound = cursor.impact;
+                    boundId = id;
+                } else if (cursor.impact == bound && id < boundId) {
+                    boundId = id;
+                }
+            }
+            if (bound < 0) {
+                // Every item matching this query term has been seen
+                return true;
+            }
+            threshold += bound;
+            tieId = Math.max(tieId, boundId);
+        }
+        if (top.size() < limit) {
+            return false;
+        }
+        Hit last = top.peek();
+        return last.score() > threshold || last.score() == threshold && last.id() < tieId;
+    }
+
+    private static Map<String, Integer> termWeights(String name, String description) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String term : tokenize(name)) {
+            weights.merge(term, NAME_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(description)) {
+            weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum);
+        }
+        return weights;
+    }
+
+    /**
+     * Leave behind the entries of terms the new version no longer has, or has with another weight.
+     */
+    private void dropChangedTerms(Document existing, Map<String, Integer> weights, List<Postings> compact) {
+        for (int i = 0; i < existing.terms().length; i++) {
+            Postings p = existing.terms()[i];
+            Integer weight = weights.get(p.term);
+            if (weight != null && Math.min(weight, MAX_WEIGHT) == existing.weights()[i]) {
+                continue;
+            }
+            p.documents--;
+            p.stale++;
+            if (p.documents == 0) {
+                postings.remove(p.term);
+                ranking(p, false, true);
+            } else {
+                ranking(p, false, false);
+                if (p.stale > p.documents) {
+                    compact.add(p);
+                }
+            }
+        }
+    }
+
+    private Document addTerms(Long id, String name, String description, long changeSeq, Document existing,
+                              Map<String, Integer> weights) {
+        Postings[] terms = new Postings[weights.size()];
+        int[] termWeights = new int[weights.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            int weight = Math.min(entry.getValue(), MAX_WEIGHT);
+            Postings p = existing != null ? existing.unchanged(entry.getKey(), weight) : null;
+            if (p == null) {
+                boolean newTerm = !postings.containsKey(entry.getKey());
+                p = postings.computeIfAbsent(entry.getKey(), Postings::new);
+                p.add(entry(id, weight));
+                p.documents++;
+                ranking(p, true, newTerm);
+            }
+            terms[i] = p;
+            termWeights[i] = weight;
+            i++;
+        }
+        return new Document(changeSeq, name, description, terms, termWeights);
+    }
+
+    /**
+     * Keep the ranked prefixes of a term in step after it gained or lost a document.
+     */
+    private void ranking(Postings p, boolean gained, boolean termChanged) {
+        int prefixes = Math.min(RANKED_PREFIX_LENGTH, p.term.length());
+        for (int length = 1; length <= prefixes; length++) {
+            String prefix = p.term.substring(0, length);
+            if (gained) {
+                rankedPrefixes.computeIfAbsent(prefix, key -> new RankedPrefix(maxPrefixExpansions))
+                    .gained(p, termChanged);
+            } else {
+                RankedPrefix ranked = rankedPrefixes.get(prefix);
+                if (ranked != null && ranked.lost(p, termChanged)) {
+                    rankedPrefixes.remove(prefix);
+                }
+            }
+        }
+    }
+
+    private boolean isCurrent(long entry, Postings p) {
+        Document document = documents.get(entry & ID_MASK);
+        return document != null && document.weightOf(p) == weightOf(entry);
+    }
+
+    private static long entry(long id, int weight) {
+        return (long) (MAX_WEIGHT - weight) << ID_BITS | id;
+    }
+
+    private static int weightOf(long entry) {
+        return MAX_WEIGHT - (int) (entry >>> ID_BITS);
+    }
+
+    /**
+     * The {@code capacity} most frequent of the given terms, most frequent first, and how many terms there were.
+     */
+    private static RankedTerms mostFrequent(Iterable<Postings> terms, int capacity) {
+        PriorityQueue<Postings> largest = new PriorityQueue<>(capacity + 1, MOST_FREQUENT.reversed());
+        int matches = 0;
+        for (Postings p : terms) {
+            matches++;
+            largest.offer(p);
+            if (largest.size() > capacity) {
+                largest.poll();
+            }
+        }
+        Postings[] ranked = new Postings[largest.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = largest.poll();
+        }
+        return new RankedTerms(ranked, matches);
+    }
+
+    private static long[] merge(long[] left, int leftSize, long[] right, int rightSize) {
+        long[] merged = new long[leftSize + rightSize];
+        int l = 0;
+        int r = 0;
+        int m = 0;
+        while (l < leftSize && r < rightSize) {
+            merged[m++] = left[l] <= right[r] ? left[l++] : right[r++];
+        }
+        System.arraycopy(left, l, merged, m, leftSize - l);
+        System.arraycopy(right, r, merged, m + leftSize - l, rightSize - r);
+        return merged;
+    }
+
+    /**
+     * Entries of one index term as two sorted runs: a large main run and a small tail taking new entries,
+     * merged into the main run once it outgrows a fraction of it.
+     */
+    private static final class Postings {
+
+        private static final long[] NONE = new long[0];
+        private static final int MIN_MERGE_SIZE = 256;
+
+        private final String term;
+        private long[] main = NONE;
+        private long[] tail = new long[1];
+        private int tailSize;
+        // Items currently holding the term, and entries left behind by updates and removals
+        private int documents;
+        private int stale;
+
+        Postings(String term) {
+            this.term = term;
+        }
+
+        void add(long entry) {
+            int found = Arrays.binarySearch(tail, 0, tailSize, entry);
+            if (found >= 0 || Arrays.binarySearch(main, entry) >= 0) {
+                // The item went back to a weight it had before; its old entry is current again
+                stale--;
+                return;
+            }
+            int at = -(found + 1);
+            if (tailSize == tail.length) {
+                tail = Arrays.copyOf(tail, tailSize * 2);
+            }
+            System.arraycopy(tail, at, tail, at + 1, tailSize - at);
+            tail[at] = entry;
+            tailSize++;
+            if (tailSize > Math.max(MIN_MERGE_SIZE, main.length >> 6)) {
+                main = merge(main, main.length, tail, tailSize);
+                tail = new long[1];
+                tailSize = 0;
+            }
+        }
+
+        void compact(LongPredicate current) {
+            long[] all = merge(main, main.length, tail, tailSize);
+            int kept = 0;
+            for (long entry : all) {
+                if (current.test(entry)) {
+                    all[kept++] = entry;
+                }
+            }
+            main = Arrays.copyOf(all, kept);
+            tail = new long[1];
+            tailSize = 0;
+            stale = 0;
+        }
+    }
+
+    /**
+     * The most frequent terms sharing a short prefix, kept in step with writes. When a ranked term loses
+     * documents while other terms are not ranked, one of those may now rank higher, so the ranking is rebuilt
+     * by the next search using it.
+     */
+    private static final class RankedPrefix {
+
+        private final Postings[] top;
+        private int size;
+        private int matches;
+        private boolean stale;
+
+        RankedPrefix(int capacity) {
+            this.top = new Postings[capacity];
+        }
+
+        synchronized void gained(Postings p, boolean newTerm) {
+            if (newTerm) {
+                matches++;
+            }
+            if (stale) {
+                return;
+            }
+            int at = indexOf(p);
+            if (at < 0) {
+                if (size < top.length) {
+                    at = size++;
+                } else if (MOST_FREQUENT.compare(p, top[size - 1]) < 0) {
+                    at = size - 1;
+                } else {
+                    return;
+                }
+                top[at] = p;
+            }
+            for (; at > 0 && MOST_FREQUENT.compare(top[at], top[at - 1]) < 0; at--) {
+                swap(at, at - 1);
+            }
+        }
+
+        /**
+         * @return true if no term has the prefix any more
+         */
+        synchronized boolean lost(Postings p, boolean removedTerm) {
+            boolean complete = size == matches;
+            if (removedTerm) {
+                matches--;
+            }
+            if (stale) {
+                return matches == 0;
+            }
+            int at = indexOf(p);
+            if (at < 0) {
+                return matches == 0;
+            }
+            if (!complete) {
+                stale = true;
+            } else if (removedTerm) {
+                System.arraycopy(top, at + 1, top, at, size - at - 1);
+                top[--size] = null;
+            } else {
+                for (; at < size - 1 && MOST_FREQUENT.compare(top[at + 1], top[at]) < 0; at++) {
+                    swap(at, at + 1);
+                }
+            }
+            return matches == 0;
+        }
+
+        synchronized RankedTerms rankedTerms(NavigableMap<String, Postings> postings, String prefix) {
+            if (stale) {
+                RankedTerms rebuilt = mostFrequent(
+                    postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values(), top.length);
+                Arrays.fill(top, null);
+                System.arraycopy(rebuilt.terms(), 0, top, 0, rebuilt.terms().length);
+                size = rebuilt.terms().length;
+                matches = rebuilt.matches();
+                stale = false;
+            }
+            return new RankedTerms(Arrays.copyOf(top, size), matches);
+        }
+
+        private int indexOf(Postings p) {
+            for (int i = 0; i < size; i++) {
+                if (top[i] == p) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void swap(int i, int j) {
+            Postings swapped = top[i];
+            top[i] = top[j];
+            top[j] = swapped;
+        }
+    }
+
+    /**
+     * Position in one expanded posting, reading the main run and the tail in merged order.
+     */
+    private static final class Cursor {
+
+        private final long[] main;
+        private final long[] tail;
+        private final int tailSize;
+        private final double factor;
+        private int mainPosition;
+        private int tailPosition;
+        private long entry;
+        private double impact;
+        private boolean exhausted;
+
+        Cursor(Postings p, double factor) {
+            this.main = p.main;
+            this.tail = p.tail;
+            this.tailSize = p.tailSize;
+            this.factor = factor;
+        }
+
+        boolean advance() {
+            boolean fromMain = mainPosition < main.length;
+            boolean fromTail = tailPosition < tailSize;
+            if (fromMain && fromTail) {
+                fromMain = main[mainPosition] < tail[tailPosition];
+            } else if (!fromMain && !fromTail) {
+                exhausted = true;
+                return false;
+            }
+            entry = fromMain ? main[mainPosition++] : tail[tailPosition++];
+            impact = weightOf(entry) * factor;
+            return true;
+        }
+    }
+
+    /**
+     * The expansions of one query term, with the score factor of each.
+     */
+    private static final class QueryTerm {
+
+        static final QueryTerm NONE = new QueryTerm(0, false);
+
+        private final Cursor[] cursors;
+        private final Map<Postings, Double> factors = new IdentityHashMap<>();
+        private final boolean truncated;
+        private int size;
+
+        QueryTerm(int expansions, boolean truncated) {
+            this.cursors = new Cursor[expansions];
+            this.truncated = truncated;
+        }
+
+        void add(Postings p, double factor) {
+            cursors[size++] = new Cursor(p, factor);
+            factors.put(p, factor);
+        }
+    }
+
+    private record Document(long changeSeq, String name, String description, Postings[] terms, int[] weights) {
+
+        /**
+         * @return the posting of a term this document already holds with the given weight, or null
+         */
+        Postings unchanged(String term, int weight) {
+            for (int i = 0; i < terms.length; i++) {
+                if (terms[i].term.equals(term)) {
+                    return weights[i] == weight ? terms[i] : null;
+                }
+            }
+            return null;
+        }
+
+        int weightOf(Postings p) {
+            for (int i = 0; i < terms.length; i++) {
+                if (terms[i] == p) {
+                    return weights[i];
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * @return the sum over query terms of the best matching term's weight and factor,
+         * or -1 if a query term does not match
+         */
+        double score(List<QueryTerm> queryTerms) {
+            double score = 0;
+            for (QueryTerm queryTerm : queryTerms) {
+                double best = -1;
+                for (int i = 0; i < terms.length; i++) {
+                    Double factor = queryTerm.factors.get(terms[i]);
+                    if (factor != null) {
+                        best = Math.max(best, weights[i] * factor);
+                    }
+                }
+                if (best < 0) {
+                    return -1;
+                }
+                score += best;
+            }
+            return score;
+        }
+    }
+
+    private record RankedTerms(Postings[] terms, int matches) {
+    }
+
+    private record Hit(long id, double score, Document document) {
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.demo.search;
+
+import com.example.demo.config.SearchProperties;
+import com.example.demo.dto.ItemChange;
+import com.example.demo.dto.SyncToken;
+import com.example.demo.repository.ItemRepository;
+import com.example.demo.service.ItemSyncService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Builds the search index once the application is ready, then keeps it in step with the item change feed.
+ * The id space is split into contiguous ranges, each streamed from the database by its own thread in a
+ * read-only transaction. Writes committed meanwhile are indexed by {@link ItemSearchListener}; the index keeps
+ * whichever version is newer. Writes the listener never sees, from other instances or bulk updates, are read
+ * from the change feed every {@code demo.search.catch-up-interval}, starting at the highest change sequence
+ * present when the load began.
+ */
+@Component
+public class ItemSearchIndexLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemSearchIndexLoader.class);
+
+    private static final int CATCH_UP_BATCH_SIZE = 1000;
+
+    private final ItemRepository itemRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemSyncService itemSyncService;
+    private final SearchProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ScheduledExecutorService catchUpScheduler;
+    private SyncToken position;
+
+    public ItemSearchIndexLoader(ItemRepository itemRepository, ItemSearchIndex itemSearchIndex,
+                                 ItemSyncService itemSyncService, SearchProperties properties,
+                                 PlatformTransactionManager transactionManager) {
+        this.itemRepository = itemRepository;
+        this.itemSearchIndex = itemSearchIndex;
+        this.itemSyncService = itemSyncService;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.catchUpScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "search-index-catch-up");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() throws InterruptedException {
+        load();
+        Duration interval = properties.getCatchUpInterval();
+        if (interval.isPositive()) {
+            catchUpScheduler.scheduleWithFixedDelay(this::scheduledCatchUp, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        catchUpScheduler.shutdownNow();
+    }
+
+    /**
+     * Index every live item and remember where the change feed stood, for {@link #catchUp()}.
+     * @return the number of items read from the database
+     */
+    public synchronized long load() throws InterruptedException {
+        // Every change up to here is committed, later ones are read by catchUp()
+        Long maxChangeSeq = readOnlyTransaction.execute(status -> itemRepository.findMaxChangeSeq());
+        SyncToken loadedUpTo = new SyncToken(maxChangeSeq != null ? maxChangeSeq : 0, 0);
+        Long maxId = readOnlyTransaction.execute(status -> itemRepository.findMaxId());
+        if (maxId == null) {
+            position = loadedUpTo;
+            return 0;
+        }
+
+        int parallelism = properties.getBuildParallelism();
+        long rangeSize = (maxId + parallelism) / parallelism;
+        AtomicLong loaded = new AtomicLong();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService loaders = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "search-index-loader-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        long startTime = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                long fromId = i * rangeSize;
+                long toId = i == parallelism - 1 ? maxId + 1 : fromId + rangeSize;
+                futures.add(loaders.submit(() -> loaded.addAndGet(loadRange(fromId, toId))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Building the search index failed after " + loaded.get() + " items",
+                e.getCause());
+        } finally {
+            loaders.shutdownNow();
+        }
+
+        logger.info("Indexed {} items for search in {} ms using {} threads",
+            loaded.get(), (System.nanoTime() - startTime) / 1_000_000, parallelism);
+        position = loadedUpTo;
+        itemSearchIndex.dropTombstones(loadedUpTo.changeSeq());
+        return loaded.get();
+    }
+
+    /**
+     * Index the changes committed since the load or the previous catch-up, in feed order.
+     * Deletions older than the feed position are forgotten afterwards, since no older copy can arrive anymore.
+     * @return the number of changes read
+     * @throws IllegalStateException if the index has not been loaded
+     */
+    public synchronized long catchUp() {
+        if (position == null) {
+            throw new IllegalStateException("The search index has not been loaded");
+        }
+        long read = 0;
+        List<ItemChange> changes;
+        do {
+            changes = itemSyncService.changesSince(position, CATCH_UP_BATCH_SIZE);
+            for (ItemChange change : changes) {
+                itemSearchIndex.index(change.id(), change.name(), change.description(), change.changeSeq(),
+                    change.deleted());
+                position = SyncToken.of(change);
+            }
+            read += changes.size();
+        } while (changes.size() == CATCH_UP_BATCH_SIZE);
+        itemSearchIndex.dropTombstones(position.changeSeq());
+        return read;
+    }
+
+    private void scheduledCatchUp() {
+        try {
+            catchUp();
+        } catch (RuntimeException e) {
+            // Retried on the next run from the same position
+            logger.warn("Reading the item change feed into the search index failed", e);
+        }
+    }
+
+    private long loadRange(long fromId, long toId) {
+        Long count = readOnlyTransaction.execute(status -> {
+            long indexed = 0;
+            try (Stream<ItemChange> items = itemRepository.streamChangesInRange(fromId, toId)) {
+                for (ItemChange item : (Iterable<ItemChange>) items::iterator) {
+                    itemSearchIndex.index(item.id(), item.name(), item.description(), item.changeSeq(), false);
+                    indexed++;
+                }
+            }
+            return indexed;
+        });
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.search;
+
+import com.example.demo.entity.Item;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the search index in step with item writes. Changes are buffered per transaction and
+ * applied after commit, so rolled-back writes never become searchable, and read then, once
+ * {@link com.example.demo.service.ItemChangeSequence} has stamped them with the version the index compares.
+ * Bulk JPQL updates and deletes bypass entity callbacks, and writes made by other instances never reach this
+ * one; {@link ItemSearchIndexLoader#catchUp()} picks both up from the change feed.
+ */
+@Component
+public class ItemSearchListener {
+
+    private final ItemSearchIndex itemSearchIndex;
+
+    public ItemSearchListener(ItemSearchIndex itemSearchIndex) {
+        this.itemSearchIndex = itemSearchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void itemWritten(Item item) {
+        enqueue(new PendingChange(item, false));
+    }
+
+    @PostRemove
+    void itemRemoved(Item item) {
+        enqueue(new PendingChange(item, true));
+    }
+
+    private void enqueue(PendingChange change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        // Later writes to the same item in one transaction supersede earlier ones
+        pending.changes.put(change.item().getId(), change);
+    }
+
+    private void apply(PendingChange change) {
+        Item item = change.item();
+        itemSearchIndex.index(item.getId(), item.getName(), item.getDescription(), item.getChangeSeq(),
+            change.removed() || item.isDeleted());
+    }
+
+    private record PendingChange(Item item, boolean removed) {
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final Map<Long, PendingChange> changes = new LinkedHashMap<>();
+
+        @Override
+        public void afterCommit() {
+            changes.values().forEach(ItemSearchListener.this::apply);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ItemSearchListener.this);
+        }
+    }
+}
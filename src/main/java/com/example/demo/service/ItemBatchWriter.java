@@ -0,0 +1,50 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Item;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Inserts items in a single transaction per batch, relying on pooled sequence ids
+ * and hibernate.jdbc.batch_size so the inserts are sent as JDBC batches.
+ */
+@Service
+public class ItemBatchWriter {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public ItemBatchWriter(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Persist and commit the given items as one transaction.
+     * The persistence context is cleared afterwards, so the items are detached on return.
+     * New rows are not put into the second-level cache.
+     * @param items the new items to insert
+     */
+    public void insertBatch(List<Item> items) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            CacheMode cacheMode = session.getCacheMode();
+            session.setCacheMode(CacheMode.IGNORE);
+            try {
+                for (Item item : items) {
+                    entityManager.persist(item);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            } finally {
+                session.setCacheMode(cacheMode);
+            }
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.service;
+
+import com.example.demo.config.BulkIngestProperties;
+import com.example.demo.dto.BulkIngestResponse;
+import com.example.demo.dto.ItemRequest;
+import com.example.demo.entity.Item;
+import com.example.demo.exception.InvalidRequestException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service for ingesting large JSON arrays of items without buffering the whole request.
+ */
+@Service
+public class ItemBulkIngestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemBulkIngestService.class);
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader itemRequestReader;
+    private final Validator validator;
+    private final ItemBatchWriter itemBatchWriter;
+    private final BulkIngestProperties properties;
+
+    public ItemBulkIngestService(ObjectMapper objectMapper, Validator validator,
+                                 ItemBatchWriter itemBatchWriter, BulkIngestProperties properties) {
+        this.objectMapper = objectMapper;
+        this.itemRequestReader = objectMapper.readerFor(ItemRequest.class);
+        this.validator = validator;
+        this.itemBatchWriter = itemBatchWriter;
+        this.properties = properties;
+    }
+
+    /**
+     * Parse a JSON array of items from the stream and insert them in committed chunks.
+     * Chunks committed before an invalid element is reached are kept.
+     * @param in the request body
+     * @return the number of items inserted and chunks committed
+     */
+    public BulkIngestResponse ingest(InputStream in) throws IOException {
+        long startTime = System.nanoTime();
+        int chunkSize = properties.getChunkSize();
+        List<Item> chunk = new ArrayList<>(chunkSize);
+        long inserted = 0;
+        int chunks = 0;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidRequestException("Request body must be a JSON array of items");
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                ItemRequest request = itemRequestReader.readValue(parser);
+                validate(request, inserted + chunk.size());
+                chunk.add(new Item(request.name(), request.description()));
+
+                if (chunk.size() == chunkSize) {
+                    itemBatchWriter.insertBatch(chunk);
+                    inserted += chunk.size();
+                    chunks++;
+                    chunk.clear();
+                }
+            }
+
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new InvalidRequestException("Bulk request array must only contain item objects");
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            itemBatchWriter.insertBatch(chunk);
+            inserted += chunk.size();
+            chunks++;
+        }
+
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+        logger.info("Bulk ingested {} items in {} chunks ({} ms)", inserted, chunks, elapsedMs);
+        return new BulkIngestResponse(inserted, chunks, elapsedMs);
+    }
+
+    private void validate(ItemRequest request, long index) {
+        Set<ConstraintViolation<ItemRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException("Invalid item at index " + index, violations);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Item;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Stamps item writes with their position in the change feed. Items inserted or updated in a transaction are
+ * collected as they are written; just before the transaction commits, they all get the next value of the
+ * {@code items} row in {@code change_counter}. Taking the value locks the counter row until the commit
+ * completes, so values become visible in commit order: once a reader sees a value, every transaction holding
+ * a lower one has already committed. Only the stamping and the commit itself are serialized, the rest of
+ * each write transaction runs concurrently. Stamping writes every collected row once more, and the stamped
+ * items are evicted from the second-level cache because {@code change_seq} is written outside Hibernate.
+ */
+@Component
+public class ItemChangeSequence {
+
+    static final String COUNTER_NAME = "items";
+
+    private static final String NEXT_VALUE_RETURNING =
+        "update change_counter set current_value = current_value + 1 where name = ? returning current_value";
+    private static final String NEXT_VALUE_FINAL_TABLE = "select current_value from final table ("
+        + "update change_counter set current_value = current_value + 1 where name = ?)";
+    private static final String STAMP_ITEM = "update items set change_seq = ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private volatile String nextValueQuery;
+
+    public ItemChangeSequence(JdbcTemplate jdbcTemplate, ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void itemWritten(Item item) {
+        pending().items.add(item);
+    }
+
+    /**
+     * @return the items written by the current transaction, stamped before it commits
+     * @throws IllegalStateException if no transaction is active
+     */
+    private PendingItems pending() {
+        PendingItems pending = (PendingItems) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Items must be written inside a transaction");
+        }
+        pending = new PendingItems();
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    /**
+     * Advance the counter in one round trip; runs on the transaction's connection, which keeps the row lock
+     * until it commits or rolls back.
+     */
+    private long nextValue() {
+        try {
+            return jdbcTemplate.queryForObject(nextValueQuery(), Long.class, COUNTER_NAME);
+        } catch (EmptyResultDataAccessException e) {
+            throw new IllegalStateException("Missing change_counter row '" + COUNTER_NAME + "'", e);
+        }
+    }
+
+    private String nextValueQuery() {
+        String query = nextValueQuery;
+        if (query == null) {
+            // PostgreSQL returns the updated row directly; H2 reads it through a data change delta table
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            query = "PostgreSQL".equals(product) ? NEXT_VALUE_RETURNING : NEXT_VALUE_FINAL_TABLE;
+            nextValueQuery = query;
+        }
+        return query;
+    }
+
+    private final class PendingItems implements TransactionSynchronization {
+
+        private final Set<Item> items = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        @Override
+        public void suspend() {
+            // A nested REQUIRES_NEW transaction stamps its own items
+            TransactionSynchronizationManager.unbindResource(ItemChangeSequence.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(ItemChangeSequence.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Rows and generated ids must exist before they are stamped
+            EntityManager entityManager =
+                EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory.getObject());
+            if (entityManager != null) {
+                entityManager.flush();
+            }
+
+            long value = nextValue();
+            List<Object[]> stamps = new ArrayList<>(items.size());
+            for (Item item : items) {
+                // change_seq is not updatable through Hibernate, so this does not dirty the entity
+                item.setChangeSeq(value);
+                stamps.add(new Object[] {value, item.getId()});
+            }
+            jdbcTemplate.batchUpdate(STAMP_ITEM, stamps);
+        }
+
+        @Override
+        public void afterCommit() {
+            Cache cache = entityManagerFactory.getObject().getCache();
+            for (Item item : items) {
+                cache.evict(Item.class, item.getId());
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ItemChangeSequence.this);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Item;
+import com.example.demo.repository.ItemRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service for streaming the full item catalog as newline-delimited JSON.
+ */
+@Service
+public class ItemExportService {
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final ItemRepository itemRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ItemExportService(ItemRepository itemRepository, EntityManager entityManager,
+                             ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.itemRepository = itemRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Write every item to the given stream, one JSON object per line.
+     * Rows are read through a database cursor and detached once written, so memory
+     * use does not grow with the table size. Blocking writes to a slow client throttle the cursor.
+     * @param out the target stream, left open when the export completes
+     * @return the number of items written
+     */
+    public long exportAll(OutputStream out) throws IOException {
+        try {
+            Long written = readOnlyTransaction.execute(status -> {
+                try (Stream<Item> items = itemRepository.streamAllOrderedById();
+                     JsonGenerator generator = createGenerator(out)) {
+                    return writeItems(items.iterator(), generator);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return written != null ? written : 0;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    private long writeItems(Iterator<Item> items, JsonGenerator generator) throws IOException {
+        long count = 0;
+        while (items.hasNext()) {
+            Item item = items.next();
+            generator.writeObject(item);
+            generator.writeRaw('\n');
+            entityManager.detach(item);
+
+            if (++count % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+        return count;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ItemBatchResponse;
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.entity.Item;
+import com.example.demo.exception.ItemNotFoundException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service for looking up items by id.
+ * Lookups go through Hibernate's id-based loading, which consults the persistence context
+ * and the entity cache before querying, and batches the remaining ids into IN queries.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ItemLookupService {
+
+    /**
+     * Maximum number of ids bound into a single IN query.
+     */
+    static final int ID_BATCH_SIZE = 100;
+
+    private final EntityManager entityManager;
+
+    public ItemLookupService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Find a single item.
+     * @param id the item id
+     * @return the item summary
+     * @throws ItemNotFoundException if no item has the given id
+     */
+    public ItemSummary findById(Long id) {
+        Item item = entityManager.find(Item.class, id);
+        if (item == null || item.isDeleted()) {
+            throw new ItemNotFoundException(id);
+        }
+        return ItemSummary.from(item);
+    }
+
+    /**
+     * Find several items at once.
+     * @param ids the requested ids
+     * @return the found items in request order, and the ids that were not found
+     */
+    public ItemBatchResponse findByIds(List<Long> ids) {
+        List<Item> loaded = entityManager.unwrap(Session.class)
+            .byMultipleIds(Item.class)
+            .withBatchSize(ID_BATCH_SIZE)
+            .enableSessionCheck(true)
+            .multiLoad(ids);
+
+        List<ItemSummary> items = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Item item = loaded.get(i);
+            if (item != null && !item.isDeleted()) {
+                items.add(ItemSummary.from(item));
+            } else {
+                missing.add(ids.get(i));
+            }
+        }
+        return new ItemBatchResponse(items, missing);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.demo.service;
+
+import com.example.demo.config.SeedProperties;
+import com.example.demo.entity.Item;
+import com.example.demo.entity.SeedMarker;
+import com.example.demo.repository.ItemRepository;
+import com.example.demo.repository.SeedMarkerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates synthetic items with parallel producers and batched inserts.
+ * Each batch draws from its own random generator derived from the configured seed,
+ * so the generated rows are the same for a given seed regardless of thread scheduling.
+ */
+@Service
+public class ItemSeeder {
+
+    public static final String MARKER_NAME = "items";
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemSeeder.class);
+    private static final char[] FILLER = "abcdefghijklmnopqrstuvwxyz ".toCharArray();
+
+    private final ItemBatchWriter itemBatchWriter;
+    private final ItemRepository itemRepository;
+    private final SeedMarkerRepository seedMarkerRepository;
+    private final SeedProperties properties;
+
+    public ItemSeeder(ItemBatchWriter itemBatchWriter, ItemRepository itemRepository,
+                      SeedMarkerRepository seedMarkerRepository, SeedProperties properties) {
+        this.itemBatchWriter = itemBatchWriter;
+        this.itemRepository = itemRepository;
+        this.seedMarkerRepository = seedMarkerRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Seed the items table unless it has been seeded before or already holds items.
+     * A table populated without a seed marker gets a marker with a row count of zero, so later
+     * startups skip it by primary key lookup.
+     * @return the number of items inserted
+     */
+    public long seedIfEmpty() throws InterruptedException {
+        if (seedMarkerRepository.existsById(MARKER_NAME)) {
+            return 0;
+        }
+        // max(id) is answered from the primary key index, unlike count()
+        if (itemRepository.findMaxId() != null) {
+            logger.info("Items table is not empty, skipping seeding");
+            seedMarkerRepository.save(new SeedMarker(MARKER_NAME, 0, Instant.now()));
+            return 0;
+        }
+        return seed();
+    }
+
+    /**
+     * Generate and insert the configured number of items, then record the seed marker.
+     * @return the number of items inserted
+     */
+    public long seed() throws InterruptedException {
+        long count = properties.getCount();
+        int batchSize = properties.getBatchSize();
+        int parallelism = properties.getParallelism();
+        long batches = (count + batchSize - 1) / batchSize;
+
+        AtomicLong nextBatch = new AtomicLong();
+        AtomicLong inserted = new AtomicLong();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService producers = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "item-seeder-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        long startTime = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                futures.add(producers.submit(() -> {
+                    long batch;
+                    while ((batch = nextBatch.getAndIncrement()) < batches) {
+                        List<Item> items = generateBatch(batch);
+                        itemBatchWriter.insertBatch(items);
+                        inserted.addAndGet(items.size());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            nextBatch.set(batches);
+            throw new IllegalStateException("Seeding items failed after " + inserted.get() + " rows", e.getCause());
+        } finally {
+            producers.shutdownNow();
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - startTime);
+        long rowsPerSecond = inserted.get() * 1_000_000_000L / elapsedNanos;
+        seedMarkerRepository.save(new SeedMarker(MARKER_NAME, inserted.get(), Instant.now()));
+        logger.info("Seeded {} items in {} ms using {} producers ({} rows/s)",
+            inserted.get(), elapsedNanos / 1_000_000, parallelism, rowsPerSecond);
+        return inserted.get();
+    }
+
+    /**
+     * Generate the items of one batch. The result depends only on the batch index and the configured seed.
+     * @param batch the zero-based batch index
+     * @return the generated items
+     */
+    public List<Item> generateBatch(long batch) {
+        int batchSize = properties.getBatchSize();
+        long first = batch * batchSize;
+        long last = Math.min(first + batchSize, properties.getCount());
+        SplittableRandom random = new SplittableRandom(properties.getRandomSeed() * 31 + batch);
+
+        List<Item> items = new ArrayList<>((int) (last - first));
+        for (long i = first; i < last; i++) {
+            long number = i + 1;
+            items.add(new Item("Item " + number, description(number, random)));
+        }
+        return items;
+    }
+
+    private String description(long number, SplittableRandom random) {
+        StringBuilder description = new StringBuilder("Description for item ").append(number);
+        int targetLength = targetLength(random);
+        while (description.length() < targetLength) {
+            description.append(FILLER[random.nextInt(FILLER.length)]);
+        }
+        return description.toString();
+    }
+
+    private int targetLength(SplittableRandom random) {
+        int min = properties.getDescriptionMinLength();
+        int max = Math.max(min, properties.getDescriptionMaxLength());
+        if (max == min) {
+            return min;
+        }
+        return switch (properties.getSizeDistribution()) {
+            case UNIFORM -> random.nextInt(min, max + 1);
+            case LONG_TAIL -> min + (int) ((max - min) * Math.pow(random.nextDouble(), 3));
+        };
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ItemChange;
+import com.example.demo.dto.SyncToken;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Service for the item change feed: streams rows inserted, updated or deleted after a watermark.
+ * The query walks the (change_seq, id) index from the watermark, so its cost follows
+ * the number of changes rather than the catalog size. Change sequence values become visible in commit
+ * order (see {@link ItemChangeSequence}), so no write can commit behind a token already handed out.
+ */
+@Service
+public class ItemSyncService {
+
+    private static final String CHANGES_QUERY = "select new com.example.demo.dto.ItemChange("
+        + "i.id, i.name, i.description, i.updatedAt, i.deleted, i.changeSeq) from Item i"
+        + " where i.changeSeq > :changeSeq or (i.changeSeq = :changeSeq and i.id > :id)"
+        + " order by i.changeSeq, i.id";
+
+    private static final SerializedString CHANGES = new SerializedString("changes");
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString DELETED = new SerializedString("deleted");
+    private static final SerializedString NEXT_TOKEN = new SerializedString("nextToken");
+    private static final SerializedString HAS_MORE = new SerializedString("hasMore");
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ItemSyncService(EntityManager entityManager, ObjectMapper objectMapper,
+                           PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Write up to {@code limit} changes after the given watermark as a JSON document
+     * with the changes, the token to resume from and whether more changes are pending.
+     * @param since the last position the client has seen
+     * @param limit the maximum number of changes to write
+     * @param out the target stream, left open when done
+     */
+    public void writeChangesSince(SyncToken since, int limit, OutputStream out) throws IOException {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ItemChange> changes = queryChanges(since, limit + 1);
+                     JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    writeDocument(changes.iterator(), since, limit, generator);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Read up to {@code limit} changes after the given watermark, in feed order.
+     * @param since the last position the caller has seen
+     * @param limit the maximum number of changes to read
+     * @return the changes; fewer than {@code limit} once the caller has caught up
+     */
+    public List<ItemChange> changesSince(SyncToken since, int limit) {
+        return readOnlyTransaction.execute(status -> {
+            try (Stream<ItemChange> changes = queryChanges(since, limit)) {
+                return changes.toList();
+            }
+        });
+    }
+
+    private Stream<ItemChange> queryChanges(SyncToken since, int maxResults) {
+        return entityManager.createQuery(CHANGES_QUERY, ItemChange.class)
+            .setParameter("changeSeq", since.changeSeq())
+            .setParameter("id", since.id())
+            .setMaxResults(maxResults)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, 1000)
+            .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+            .getResultStream();
+    }
+
+    private void writeDocument(Iterator<ItemChange> changes, SyncToken since, int limit, JsonGenerator generator)
+            throws IOException {
+        SyncToken last = since;
+        int written = 0;
+        boolean hasMore = false;
+
+        generator.writeStartObject();
+        generator.writeFieldName(CHANGES);
+        generator.writeStartArray();
+        while (changes.hasNext()) {
+            ItemChange change = changes.next();
+            if (written == limit) {
+                hasMore = true;
+                break;
+            }
+            writeChange(change, generator);
+            last = SyncToken.of(change);
+            written++;
+        }
+        generator.writeEndArray();
+        generator.writeFieldName(NEXT_TOKEN);
+        generator.writeString(last.encode());
+        generator.writeFieldName(HAS_MORE);
+        generator.writeBoolean(hasMore);
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    private void writeChange(ItemChange change, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(ID);
+        generator.writeNumber(change.id());
+        if (!change.deleted()) {
+            generator.writeFieldName(NAME);
+            generator.writeString(change.name());
+            generator.writeFieldName(DESCRIPTION);
+            generator.writeString(change.description());
+        }
+        generator.writeFieldName(UPDATED_AT);
+        generator.writeString(change.updatedAt().toString());
+        generator.writeFieldName(DELETED);
+        generator.writeBoolean(change.deleted());
+        generator.writeEndObject();
+    }
+}
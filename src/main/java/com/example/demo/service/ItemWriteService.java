@@ -0,0 +1,62 @@
+package com.example.demo.service;
+
+import com.example.demo.config.WriteBehindProperties;
+import com.example.demo.dto.ItemRequest;
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.entity.Item;
+import com.example.demo.repository.ItemRepository;
+import com.example.demo.writebehind.ItemWriteBehindBuffer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Creates items, either in a transaction of their own or through the write-behind buffer when it is enabled.
+ */
+@Service
+public class ItemWriteService {
+
+    private final ItemRepository itemRepository;
+    private final ItemWriteBehindBuffer writeBehindBuffer;
+    private final WriteBehindProperties properties;
+
+    public ItemWriteService(ItemRepository itemRepository, ObjectProvider<ItemWriteBehindBuffer> writeBehindBuffer,
+                            WriteBehindProperties properties) {
+        this.itemRepository = itemRepository;
+        this.writeBehindBuffer = writeBehindBuffer.getIfAvailable();
+        this.properties = properties;
+    }
+
+    /**
+     * Create an item.
+     * @param request the validated item content
+     * @return the stored item, or empty if the write was accepted but is not yet known to be committed
+     * @throws com.example.demo.exception.WriteBufferFullException if the write-behind buffer is full
+     */
+    public Optional<ItemSummary> create(ItemRequest request) {
+        Item item = new Item(request.name(), request.description());
+        if (writeBehindBuffer == null) {
+            return Optional.of(ItemSummary.from(itemRepository.save(item)));
+        }
+
+        CompletableFuture<ItemSummary> committed = writeBehindBuffer.submit(item);
+        if (properties.getDurability() == WriteBehindProperties.Durability.ACCEPTED) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(committed.get(properties.getCommitTimeout().toNanos(), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Group commit failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for group commit", e);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.demo.warmup;
+
+import com.example.demo.config.WarmupProperties;
+import com.example.demo.dto.ItemQuery;
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.dto.PageResponse;
+import com.example.demo.ratelimit.RateLimitService;
+import com.example.demo.repository.ItemRepository;
+import com.example.demo.repository.ItemSpecifications;
+import com.example.demo.service.ItemLookupService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Warms the JIT, the Hibernate query plan cache, the connection pools and the entity cache before
+ * the first real request arrives.
+ * <p>
+ * Runs synchronously in the {@link ApplicationReadyEvent} listener. Spring Boot publishes
+ * {@code ReadinessState.ACCEPTING_TRAFFIC} only after every listener for that event has returned,
+ * so readiness stays REFUSING_TRAFFIC until warmup completes or its time budget runs out.
+ * Failures are logged and never keep the application out of service.
+ */
+@Component
+@ConditionalOnProperty(prefix = "demo.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmup {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmup.class);
+
+    /**
+     * Synthetic client keys for rate limiter decisions, kept apart from real client IPs.
+     * Their counters expire with the window and are removed by the regular cleanup task.
+     */
+    static final int SYNTHETIC_CLIENTS = 16;
+    static final String SYNTHETIC_CLIENT_PREFIX = "warmup-";
+
+    /**
+     * Sorted and filtered listings replayed alongside the default listing, so their criteria query plans are cached.
+     */
+    private static final List<ItemQuery> QUERIES = List.of(
+        ItemQuery.parse(List.of("name:asc"), null),
+        ItemQuery.parse(List.of("updatedAt:desc"), null),
+        ItemQuery.parse(null, List.of("name:prefix:item")));
+
+    /**
+     * Warmup progress, exposed through the "warmup" health contributor.
+     */
+    public enum Phase {
+        PENDING, PREFILLING_POOLS, PRELOADING_PAGES, REPLAYING_REQUESTS, COMPLETED
+    }
+
+    /**
+     * Immutable view of the warmup progress.
+     * @param budgetExhausted whether the time budget ran out before all iterations were replayed
+     * @param error the failure that ended warmup early, or null
+     */
+    public record Progress(Phase phase, int iterationsCompleted, int iterationsPlanned, int pagesPreloaded,
+                           int connectionsOpened, long elapsedMs, boolean budgetExhausted, String error) {
+    }
+
+    private final WarmupProperties properties;
+    private final RateLimitService rateLimitService;
+    private final ItemRepository itemRepository;
+    private final ItemLookupService itemLookupService;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<HikariDataSource> pools;
+
+    private volatile Progress progress;
+
+    public StartupWarmup(WarmupProperties properties, RateLimitService rateLimitService,
+                         ItemRepository itemRepository, ItemLookupService itemLookupService,
+                         ObjectMapper objectMapper, ObjectProvider<HikariDataSource> pools) {
+        this.properties = properties;
+        this.rateLimitService = rateLimitService;
+        this.itemRepository = itemRepository;
+        this.itemLookupService = itemLookupService;
+        this.objectMapper = objectMapper;
+        this.pools = pools;
+        this.progress = new Progress(Phase.PENDING, 0, properties.getIterations(), 0, 0, 0, false, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        run();
+    }
+
+    /**
+     * Run every warmup phase within the configured budget.
+     * @return the final progress
+     */
+    public Progress run() {
+        long startTime = System.nanoTime();
+        long deadline = startTime + properties.getTimeBudget().toNanos();
+        int connections = 0;
+        int pages = 0;
+        int iterations = 0;
+        String error = null;
+        try {
+            update(Phase.PREFILLING_POOLS, iterations, pages, connections, startTime, false, null);
+            connections = prefillPools();
+
+            update(Phase.PRELOADING_PAGES, iterations, pages, connections, startTime, false, null);
+            List<PageRequest> hotPages = new ArrayList<>();
+            for (int page = 0; page < properties.getHotPages() && System.nanoTime() < deadline; page++) {
+                PageRequest pageRequest = PageRequest.of(page, properties.getPageSize());
+                Page<ItemSummary> summaries = itemRepository.findSummaries(pageRequest);
+                if (summaries.isEmpty()) {
+                    break;
+                }
+                itemLookupService.findByIds(summaries.map(ItemSummary::id).getContent());
+                hotPages.add(pageRequest);
+                pages++;
+                update(Phase.PRELOADING_PAGES, iterations, pages, connections, startTime, false, null);
+            }
+            if (hotPages.isEmpty()) {
+                hotPages.add(PageRequest.of(0, properties.getPageSize()));
+            }
+
+            update(Phase.REPLAYING_REQUESTS, iterations, pages, connections, startTime, false, null);
+            while (iterations < properties.getIterations() && System.nanoTime() < deadline) {
+                replay(iterations, hotPages.get(iterations % hotPages.size()));
+                iterations++;
+                if (iterations % 100 == 0) {
+                    update(Phase.REPLAYING_REQUESTS, iterations, pages, connections, startTime, false, null);
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Warmup failed, accepting traffic anyway", e);
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+
+        boolean budgetExhausted = error == null && iterations < properties.getIterations();
+        update(Phase.COMPLETED, iterations, pages, connections, startTime, budgetExhausted, error);
+        Progress result = progress;
+        logger.info("Warmup finished in {} ms: {} of {} requests replayed, {} pages preloaded, {} connections opened{}",
+            result.elapsedMs(), iterations, properties.getIterations(), pages, connections,
+            budgetExhausted ? " (time budget exhausted)" : "");
+        return result;
+    }
+
+    public Progress getProgress() {
+        return progress;
+    }
+
+    /**
+     * One synthetic request: a rate limiter decision, an item page query and its serialization,
+     * as {@code RateLimitFilter} and {@code GET /api/items} would perform them.
+     */
+    private void replay(int iteration, PageRequest pageRequest) throws Exception {
+        rateLimitService.isAllowed(SYNTHETIC_CLIENT_PREFIX + (iteration % SYNTHETIC_CLIENTS));
+
+        PageResponse<ItemSummary> page;
+        int variant = iteration % (QUERIES.size() + 1);
+        if (variant == 0) {
+            page = PageResponse.from(PageableExecutionUtils.getPage(itemRepository.findSummaryContent(pageRequest),
+                pageRequest, itemRepository::countLive));
+        } else {
+            ItemQuery query = QUERIES.get(variant - 1);
+            page = PageResponse.from(itemRepository.findSummaries(ItemSpecifications.matching(query),
+                PageRequest.of(pageRequest.getPageNumber(), pageRequest.getPageSize(), query.sort())));
+        }
+        objectMapper.writeValueAsBytes(page);
+    }
+
+    /**
+     * Open {@code minimum-idle} connections on every pool at once, so none of them is established
+     * on a request thread.
+     * @return the number of connections opened
+     */
+    private int prefillPools() throws SQLException {
+        int opened = 0;
+        for (HikariDataSource pool : pools.orderedStream().toList()) {
+            int target = Math.max(pool.getMinimumIdle(), 1);
+            List<Connection> held = new ArrayList<>(target);
+            try {
+                for (int i = 0; i < target; i++) {
+                    held.add(pool.getConnection());
+                }
+            } finally {
+                for (Connection connection : held) {
+                    connection.close();
+                }
+            }
+            opened += held.size();
+        }
+        return opened;
+    }
+
+    private void update(Phase phase, int iterations, int pages, int connections, long startTime,
+                        boolean budgetExhausted, String error) {
+        progress = new Progress(phase, iterations, properties.getIterations(), pages, connections,
+            (System.nanoTime() - startTime) / 1_000_000, budgetExhausted, error);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports warmup progress as the "warmup" health contributor: OUT_OF_SERVICE while warmup runs,
+ * UP once it has finished, whether it completed, ran out of budget or failed.
+ */
+@Component
+@ConditionalOnProperty(prefix = "demo.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final StartupWarmup startupWarmup;
+
+    public WarmupHealthIndicator(StartupWarmup startupWarmup) {
+        this.startupWarmup = startupWarmup;
+    }
+
+    @Override
+    public Health health() {
+        StartupWarmup.Progress progress = startupWarmup.getProgress();
+        Health.Builder builder = progress.phase() == StartupWarmup.Phase.COMPLETED ? Health.up() : Health.outOfService();
+        builder.withDetail("phase", progress.phase())
+            .withDetail("iterations", progress.iterationsCompleted())
+            .withDetail("iterationsPlanned", progress.iterationsPlanned())
+            .withDetail("pagesPreloaded", progress.pagesPreloaded())
+            .withDetail("connectionsOpened", progress.connectionsOpened())
+            .withDetail("elapsedMs", progress.elapsedMs())
+            .withDetail("budgetExhausted", progress.budgetExhausted());
+        if (progress.error() != null) {
+            builder.withDetail("error", progress.error());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.demo.writebehind;
+
+import com.example.demo.config.WriteBehindProperties;
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.entity.Item;
+import com.example.demo.exception.WriteBufferFullException;
+import com.example.demo.service.ItemBatchWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Buffers new items in a {@link MpscRingBuffer} and inserts them from a single writer thread as group commits.
+ * A group is committed once it reaches the flush size or its oldest write has waited for the flush interval.
+ * When a group fails on the data of a row, a constraint or data error, its writes are retried one at a time
+ * so only the offending write fails; any other failure, such as a lost connection, fails the whole group.
+ * On shutdown new writes are rejected and everything already buffered is committed, including writes that
+ * were accepted while the writer thread was exiting; shutdown waits for the writer however long that takes.
+ */
+@Component
+@ConditionalOnProperty(prefix = "demo.write-behind", name = "enabled", havingValue = "true")
+public class ItemWriteBehindBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemWriteBehindBuffer.class);
+    private static final long SHUTDOWN_PROGRESS_INTERVAL_MS = 10_000;
+
+    private final ItemBatchWriter itemBatchWriter;
+    private final MpscRingBuffer<PendingWrite> buffer;
+    private final int flushSize;
+    private final long flushIntervalNanos;
+    private final Thread writer;
+    // Submits between their running check and their offer; stop() waits for them before the final drain
+    private final AtomicInteger submitting = new AtomicInteger();
+    private volatile boolean running;
+    private volatile int committing;
+
+    public ItemWriteBehindBuffer(ItemBatchWriter itemBatchWriter, WriteBehindProperties properties) {
+        this.itemBatchWriter = itemBatchWriter;
+        this.buffer = new MpscRingBuffer<>(properties.getCapacity());
+        this.flushSize = properties.getFlushSize();
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+        this.writer = new Thread(this::runWriter, "item-write-behind");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer.start();
+        logger.info("Write-behind buffer started with capacity {}, flush size {}, flush interval {} ms",
+            buffer.capacity(), flushSize, TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos));
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        while (submitting.get() > 0) {
+            Thread.onSpinWait();
+        }
+        LockSupport.unpark(writer);
+        // Nothing can be offered any more; the writer keeps committing until the buffer is empty
+        boolean interrupted = false;
+        long waitStart = System.nanoTime();
+        while (writer.isAlive()) {
+            try {
+                writer.join(SHUTDOWN_PROGRESS_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+            if (writer.isAlive()) {
+                logger.warn("Write-behind buffer still committing after {} ms: {} writes in the current group, "
+                    + "{} buffered", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - waitStart), committing,
+                    buffer.size());
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        // The writer may have seen an empty buffer just before a submit that passed its running check offered
+        List<PendingWrite> remaining = new ArrayList<>();
+        buffer.drain(remaining::add, Integer.MAX_VALUE);
+        if (!remaining.isEmpty()) {
+            commit(remaining);
+        }
+    }
+
+    /**
+     * Queue a new item for insertion.
+     * @param item the item to insert
+     * @return completes with the stored item once its group commit lands
+     * @throws WriteBufferFullException if the buffer is full or shutting down
+     */
+    public CompletableFuture<ItemSummary> submit(Item item) {
+        submitting.incrementAndGet();
+        try {
+            if (!running) {
+                throw new WriteBufferFullException("Write buffer is shutting down");
+            }
+            PendingWrite write = new PendingWrite(item, new CompletableFuture<>());
+            if (!buffer.offer(write)) {
+                throw new WriteBufferFullException("Write buffer is full");
+            }
+            if (buffer.size() >= flushSize) {
+                LockSupport.unpark(writer);
+            }
+            return write.committed();
+        } finally {
+            submitting.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return the number of buffered writes not yet taken by the writer
+     */
+    public int size() {
+        return buffer.size();
+    }
+
+    private void runWriter() {
+        List<PendingWrite> batch = new ArrayList<>(flushSize);
+        long batchStart = 0;
+        while (running || !buffer.isEmpty() || !batch.isEmpty()) {
+            boolean wasEmpty = batch.isEmpty();
+            int drained = buffer.drain(batch::add, flushSize - batch.size());
+            if (wasEmpty && drained > 0) {
+                batchStart = System.nanoTime();
+            }
+
+            long waited = System.nanoTime() - batchStart;
+            boolean due = !batch.isEmpty() && (batch.size() >= flushSize || waited >= flushIntervalNanos || !running);
+            if (due) {
+                commit(batch);
+                batch.clear();
+            } else if (drained == 0) {
+                LockSupport.parkNanos(this, batch.isEmpty() ? flushIntervalNanos : flushIntervalNanos - waited);
+            }
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        List<Item> items = new ArrayList<>(batch.size());
+        for (PendingWrite write : batch) {
+            items.add(write.item());
+        }
+        committing = batch.size();
+        try {
+            itemBatchWriter.insertBatch(items);
+        } catch (RuntimeException e) {
+            if (batch.size() > 1 && isRowError(e)) {
+                logger.warn("Group commit of {} items was rejected for one of its rows, committing them one at a time",
+                    batch.size(), e);
+                commitOneByOne(batch);
+            } else {
+                logger.error("Group commit of {} items failed", batch.size(), e);
+                fail(batch, e);
+            }
+            return;
+        } finally {
+            committing = 0;
+        }
+        logger.debug("Committed group of {} items", batch.size());
+        for (PendingWrite write : batch) {
+            write.committed().complete(ItemSummary.from(write.item()));
+        }
+    }
+
+    private void commitOneByOne(List<PendingWrite> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingWrite write = batch.get(i);
+            // The rolled-back group assigned an id, which would make persist treat the item as detached
+            write.item().setId(null);
+            try {
+                itemBatchWriter.insertBatch(List.of(write.item()));
+            } catch (RuntimeException e) {
+                if (!isRowError(e)) {
+                    logger.error("Committing {} items one at a time failed", batch.size() - i, e);
+                    fail(batch.subList(i, batch.size()), e);
+                    return;
+                }
+                logger.warn("Item write rejected", e);
+                write.committed().completeExceptionally(e);
+                continue;
+            }
+            write.committed().complete(ItemSummary.from(write.item()));
+        }
+    }
+
+    private static void fail(List<PendingWrite> writes, RuntimeException e) {
+        for (PendingWrite write : writes) {
+            write.committed().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * @return true if the failure is caused by the data of a row rather than by the database or connection
+     */
+    private static boolean isRowError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                return true;
+            }
+            // SQLState classes 22 (data exception) and 23 (integrity constraint violation)
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null
+                    && (sqlException.getSQLState().startsWith("22") || sqlException.getSQLState().startsWith("23"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record PendingWrite(Item item, CompletableFuture<ItemSummary> committed) {
+    }
+}
@@ -0,0 +1,6 @@
+-- Items table as originally created, with IDENTITY ids. Databases that already have it are left unchanged.
+CREATE TABLE IF NOT EXISTS items (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255),
+    description VARCHAR(255)
+);
@@ -0,0 +1,8 @@
+-- Item ids come from a pooled sequence (allocationSize 50 on Item) so Hibernate can batch inserts.
+-- Hibernate's pooled optimizer hands out the 50 ids up to each value it reads, so the first value
+-- must be at least max(id) + 50 for new ids to start above the existing rows.
+ALTER TABLE items ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE items ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS items_seq INCREMENT BY 50;
+SELECT setval('items_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM items), false);
@@ -0,0 +1,11 @@
+-- Startup seeds synthetic items only while no 'items' marker exists. Catalogs populated before the
+-- marker was introduced get one here, so they are never seeded.
+CREATE TABLE IF NOT EXISTS seed_marker (
+    name      VARCHAR(255) PRIMARY KEY,
+    row_count BIGINT NOT NULL,
+    seeded_at TIMESTAMP(6) WITH TIME ZONE
+);
+
+INSERT INTO seed_marker (name, row_count, seeded_at)
+SELECT 'items', 0, now() WHERE EXISTS (SELECT 1 FROM items)
+ON CONFLICT (name) DO NOTHING;
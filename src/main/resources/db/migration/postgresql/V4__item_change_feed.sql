@@ -0,0 +1,16 @@
+-- Change feed: tombstones, update times and a change sequence assigned in commit order from change_counter.
+-- Existing rows start at change sequence 0, so a client without a token receives all of them.
+ALTER TABLE items ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT now();
+ALTER TABLE items ADD COLUMN IF NOT EXISTS deleted BOOLEAN NOT NULL DEFAULT false;
+ALTER TABLE items ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_items_updated_at_id ON items (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_items_change_seq_id ON items (change_seq, id);
+
+CREATE TABLE IF NOT EXISTS change_counter (
+    name          VARCHAR(255) PRIMARY KEY,
+    current_value BIGINT NOT NULL
+);
+
+INSERT INTO change_counter (name, current_value) VALUES ('items', 0)
+ON CONFLICT (name) DO NOTHING;
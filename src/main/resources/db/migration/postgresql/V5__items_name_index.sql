@@ -0,0 +1,7 @@
+-- Name listings (sort=name, name:eq and name:prefix filters) are served by one (name, id) B-tree.
+-- A B-tree only answers LIKE 'prefix%' as a range scan under the C collation, and an index declared with a
+-- collation or operator class of its own would no longer serve ORDER BY name, so the column itself sorts
+-- names by code point. This is also the order H2 uses in development and tests.
+ALTER TABLE items ALTER COLUMN name TYPE VARCHAR(255) COLLATE "C";
+
+CREATE INDEX IF NOT EXISTS idx_items_name_id ON items (name, id);
@@ -0,0 +1,2 @@
+-- Run by Hibernate only when it creates the schema (dev and tests); prod gets this row from a migration
+insert into change_counter (name, current_value) values ('items', 0);
@@ -0,0 +1,33 @@
+package com.example.demo.config;
+
+import com.example.demo.filter.RateLimitWebFilter;
+import com.example.demo.ratelimit.RateLimitService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Web stack for the reactive profile.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    /**
+     * Serve on Netty; Tomcat is also on the classpath for the servlet stack and would otherwise be preferred.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public RateLimitWebFilter rateLimitWebFilter(
+            RateLimitService rateLimitService,
+            RateLimitProperties rateLimitProperties,
+            ObjectMapper objectMapper) {
+        return new RateLimitWebFilter(rateLimitService, rateLimitProperties, objectMapper);
+    }
+}
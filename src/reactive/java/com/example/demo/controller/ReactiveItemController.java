@@ -0,0 +1,67 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.ItemQuery;
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.dto.PageResponse;
+import com.example.demo.entity.ItemRow;
+import com.example.demo.exception.ItemNotFoundException;
+import com.example.demo.repository.ItemRowRepository;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.MultiValueMap;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking item reads over R2DBC, active with the reactive profile in place of {@link ItemController}.
+ * Responses match the servlet endpoints, including pagination fields, sort and filter parameters and error bodies.
+ */
+@RestController
+@RequestMapping("/api/items")
+@Validated
+@Profile("reactive")
+public class ReactiveItemController {
+
+    private final ItemRowRepository itemRowRepository;
+
+    public ReactiveItemController(ItemRowRepository itemRowRepository) {
+        this.itemRowRepository = itemRowRepository;
+    }
+
+    @GetMapping
+    public Mono<PageResponse<ItemSummary>> listItems(
+            @RequestParam(defaultValue = "0") @Min(0) Integer page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
+            @RequestParam MultiValueMap<String, String> params) {
+        // Read from the raw parameters: list binding would split filter values on commas
+        ItemQuery query = ItemQuery.parse(params.get("sort"), params.get("filter"));
+        if (!query.equals(ItemQuery.DEFAULT)) {
+            return itemRowRepository.findSummaries(query, PageRequest.of(page, size, query.sort()))
+                .map(PageResponse::from);
+        }
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        return itemRowRepository.findByDeletedFalse(pageable)
+            .map(ItemRow::toSummary)
+            .collectList()
+            .zipWith(itemRowRepository.countByDeletedFalse())
+            .map(result -> PageResponse.from(new PageImpl<>(result.getT1(), pageable, result.getT2())));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ItemSummary> getItem(@PathVariable Long id) {
+        return itemRowRepository.findById(id)
+            .filter(row -> !row.deleted())
+            .map(ItemRow::toSummary)
+            .switchIfEmpty(Mono.error(() -> new ItemNotFoundException(id)));
+    }
+}
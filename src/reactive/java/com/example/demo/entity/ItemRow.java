@@ -0,0 +1,20 @@
+package com.example.demo.entity;
+
+import com.example.demo.dto.ItemSummary;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * R2DBC mapping of the items table, used by the reactive profile. Read-only; writes go through {@link Item}.
+ */
+@Table("items")
+public record ItemRow(
+    @Id Long id,
+    String name,
+    String description,
+    boolean deleted
+) {
+    public ItemSummary toSummary() {
+        return new ItemSummary(id, name, description);
+    }
+}
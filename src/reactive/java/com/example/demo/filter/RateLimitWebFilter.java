@@ -0,0 +1,96 @@
+package com.example.demo.filter;
+
+import com.example.demo.config.RateLimitProperties;
+import com.example.demo.ratelimit.RateLimitResponse;
+import com.example.demo.ratelimit.RateLimitService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Reactive counterpart of {@link RateLimitFilter}, applied to {@code /api/**} on the WebFlux stack.
+ */
+public class RateLimitWebFilter implements WebFilter, Ordered {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitWebFilter.class);
+
+    private final RateLimitService rateLimitService;
+    private final RateLimitProperties properties;
+    private final ObjectWriter responseWriter;
+    private final RateLimitRejectionLog rejectionLog = new RateLimitRejectionLog(logger);
+
+    public RateLimitWebFilter(RateLimitService rateLimitService, RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.rateLimitService = rateLimitService;
+        this.properties = properties;
+        this.responseWriter = objectMapper.writerFor(RateLimitResponse.class);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.isEnabled() || !request.getPath().value().startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+
+        String clientIp = extractClientIp(request);
+        if (rateLimitService.isAllowed(clientIp)) {
+            return chain.filter(exchange);
+        }
+
+        long retryAfterSeconds = rateLimitService.getRetryAfterSeconds(clientIp);
+        rejectionLog.rejected(clientIp, retryAfterSeconds);
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+
+        byte[] body;
+        try {
+            body = responseWriter.writeValueAsBytes(RateLimitResponse.tooManyRequests(retryAfterSeconds));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    @Override
+    public int getOrder() {
+        return 1;
+    }
+
+    /**
+     * Extract client IP from X-Forwarded-For header or fallback to the remote address.
+     * @param request the HTTP request
+     * @return the client IP address
+     */
+    private static String extractClientIp(ServerHttpRequest request) {
+        return ClientIp.resolve(request.getHeaders().getFirst(ClientIp.X_FORWARDED_FOR),
+            () -> remoteAddress(request));
+    }
+
+    private static String remoteAddress(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress() != null ? remoteAddress.getAddress().getHostAddress()
+            : remoteAddress.getHostString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.ItemQuery;
+import com.example.demo.dto.ItemSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sorted and filtered listings, which derived queries cannot express.
+ */
+public interface ItemRowQueries {
+
+    /**
+     * Load a page of live item summaries matching every filter of a listing query.
+     * @param query a validated listing query
+     * @param pageable the page to load, including the query's sort
+     * @return a page of summaries
+     */
+    Mono<Page<ItemSummary>> findSummaries(ItemQuery query, Pageable pageable);
+}
@@ -0,0 +1,69 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.ItemQuery;
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.entity.ItemRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+/**
+ * Builds the same predicates as {@link ItemSpecifications} for R2DBC. {@link ItemRow} does not map
+ * {@code updated_at}, so fields are addressed by column name.
+ */
+class ItemRowQueriesImpl implements ItemRowQueries {
+
+    private final R2dbcEntityTemplate template;
+
+    ItemRowQueriesImpl(R2dbcEntityTemplate template) {
+        this.template = template;
+    }
+
+    @Override
+    public Mono<Page<ItemSummary>> findSummaries(ItemQuery query, Pageable pageable) {
+        Criteria criteria = matching(query);
+        Sort sort = Sort.by(pageable.getSort().stream()
+            .map(order -> order.withProperty(column(ItemQuery.Field.fromProperty(order.getProperty()))))
+            .toList());
+        return template.select(ItemRow.class)
+            .matching(Query.query(criteria).sort(sort).limit(pageable.getPageSize()).offset(pageable.getOffset()))
+            .all()
+            .map(ItemRow::toSummary)
+            .collectList()
+            .zipWith(template.count(Query.query(criteria), ItemRow.class))
+            .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    private static Criteria matching(ItemQuery query) {
+        Criteria criteria = Criteria.where("deleted").isFalse();
+        for (ItemQuery.Filter filter : query.filters()) {
+            Criteria.CriteriaStep column = criteria.and(column(filter.field()));
+            Object value = filter.value() instanceof Instant instant ? instant.atOffset(ZoneOffset.UTC) : filter.value();
+            criteria = switch (filter.operator()) {
+                case EQ -> column.is(value);
+                case GT -> column.greaterThan(value);
+                case GTE -> column.greaterThanOrEquals(value);
+                case LT -> column.lessThan(value);
+                case LTE -> column.lessThanOrEquals(value);
+                case PREFIX -> column.like(ItemSpecifications.escapeLike((String) value) + "%");
+            };
+        }
+        return criteria;
+    }
+
+    private static String column(ItemQuery.Field field) {
+        return switch (field) {
+            case ID -> "id";
+            case NAME -> "name";
+            case UPDATED_AT -> "updated_at";
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.ItemRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ItemRowRepository extends R2dbcRepository<ItemRow, Long>, ItemRowQueries {
+
+    /**
+     * @param pageable the page to load, including its sort
+     * @return the live items of the page
+     */
+    Flux<ItemRow> findByDeletedFalse(Pageable pageable);
+
+    /**
+     * @return the number of live items
+     */
+    Mono<Long> countByDeletedFalse();
+}
@@ -0,0 +1,106 @@
+package com.example.demo.filter;
+
+import com.example.demo.config.RateLimitProperties;
+import com.example.demo.ratelimit.RateLimitService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitWebFilterTest {
+
+    @Mock
+    private RateLimitService rateLimitService;
+
+    @Mock
+    private WebFilterChain filterChain;
+
+    private RateLimitProperties properties;
+    private RateLimitWebFilter rateLimitWebFilter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setEnabled(true);
+        rateLimitWebFilter = new RateLimitWebFilter(rateLimitService, properties, new ObjectMapper());
+    }
+
+    @Test
+    void shouldPassThroughWhenWithinLimit() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/test"));
+        when(rateLimitService.isAllowed("192.168.1.1")).thenReturn(true);
+        when(filterChain.filter(exchange)).thenReturn(Mono.empty());
+
+        rateLimitWebFilter.filter(exchange, filterChain).block();
+
+        verify(filterChain).filter(exchange);
+        assertNull(exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void shouldReturn429WithRetryAfterAndJsonBodyWhenLimitExceeded() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/test"));
+        when(rateLimitService.isAllowed("192.168.1.1")).thenReturn(false);
+        when(rateLimitService.getRetryAfterSeconds("192.168.1.1")).thenReturn(45L);
+
+        rateLimitWebFilter.filter(exchange, filterChain).block();
+
+        verify(filterChain, never()).filter(exchange);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode());
+        assertEquals("45", exchange.getResponse().getHeaders().getFirst("Retry-After"));
+        String content = exchange.getResponse().getBodyAsString().block();
+        assertTrue(content.contains("\"error\":\"Too Many Requests\""));
+        assertTrue(content.contains("\"retryAfter\":45"));
+    }
+
+    @Test
+    void shouldExtractIpFromXForwardedForHeader() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/test")
+            .header("X-Forwarded-For", "10.0.0.1, 192.168.1.1"));
+        when(rateLimitService.isAllowed("10.0.0.1")).thenReturn(true);
+        when(filterChain.filter(exchange)).thenReturn(Mono.empty());
+
+        rateLimitWebFilter.filter(exchange, filterChain).block();
+
+        verify(rateLimitService).isAllowed("10.0.0.1");
+    }
+
+    @Test
+    void shouldNotFilterOutsideApi() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/actuator/health"));
+        when(filterChain.filter(exchange)).thenReturn(Mono.empty());
+
+        rateLimitWebFilter.filter(exchange, filterChain).block();
+
+        verifyNoInteractions(rateLimitService);
+        verify(filterChain).filter(exchange);
+    }
+
+    @Test
+    void shouldNotFilterWhenDisabled() {
+        properties.setEnabled(false);
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/test"));
+        when(filterChain.filter(exchange)).thenReturn(Mono.empty());
+
+        rateLimitWebFilter.filter(exchange, filterChain).block();
+
+        verifyNoInteractions(rateLimitService);
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request.remoteAddress(new InetSocketAddress("192.168.1.1", 54321)));
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.demo.integration;
+
+import com.example.demo.entity.Item;
+import com.example.demo.repository.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// The web application type must be inlined: the test context is created before application-reactive.yml is read,
+// and Spring MVC on the classpath would otherwise make it a servlet context
+@SpringBootTest(properties = {"spring.main.web-application-type=reactive", "ratelimit.requests-per-minute=5"})
+@AutoConfigureWebTestClient
+@ActiveProfiles({"test", "reactive"})
+class ReactiveItemIntegrationTest {
+
+    private static final AtomicInteger CLIENT_COUNTER = new AtomicInteger();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private WebTestClient client;
+    private List<Item> items;
+
+    @BeforeEach
+    void setUp() {
+        List<Item> newItems = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            newItems.add(new Item("Item " + i, "Description for item " + i));
+        }
+        items = itemRepository.saveAll(newItems);
+        // A distinct client address per test keeps rate limit counters independent
+        client = webTestClient.mutate()
+            .defaultHeader("X-Forwarded-For", "10.0.0." + CLIENT_COUNTER.incrementAndGet())
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldReturnPageWithServletPaginationContract() {
+        client.get().uri("/api/items?page=1&size=10")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.content.length()").isEqualTo(10)
+            .jsonPath("$.content[0].name").isEqualTo("Item 11")
+            .jsonPath("$.totalElements").isEqualTo(25)
+            .jsonPath("$.totalPages").isEqualTo(3)
+            .jsonPath("$.number").isEqualTo(1)
+            .jsonPath("$.size").isEqualTo(10)
+            .jsonPath("$.first").isEqualTo(false)
+            .jsonPath("$.last").isEqualTo(false)
+            .jsonPath("$.pageable").doesNotExist();
+    }
+
+    @Test
+    void shouldSortAndFilterLikeServletEndpoint() {
+        client.get().uri(uri -> uri.path("/api/items")
+                .queryParam("filter", "name:prefix:Item 2").queryParam("sort", "name:desc").build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.content.length()").isEqualTo(7)
+            .jsonPath("$.content[0].name").isEqualTo("Item 25")
+            .jsonPath("$.content[6].name").isEqualTo("Item 2")
+            .jsonPath("$.totalElements").isEqualTo(7);
+
+        client.get().uri(uri -> uri.path("/api/items")
+                .queryParam("filter", "updatedAt:gte:2000-01-01T00:00:00Z").queryParam("sort", "updatedAt")
+                .queryParam("size", "5").build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.content.length()").isEqualTo(5)
+            .jsonPath("$.totalElements").isEqualTo(25);
+    }
+
+    @Test
+    void shouldRejectUnsupportedSortAndFilter() {
+        client.get().uri("/api/items?filter=name:prefix:Item&sort=updatedAt")
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.error").isEqualTo("Invalid Request");
+
+        client.get().uri("/api/items?filter=description:eq:x")
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.error").isEqualTo("Invalid Request");
+    }
+
+    @Test
+    void shouldReturnSingleItem() {
+        Item item = items.get(2);
+
+        client.get().uri("/api/items/{id}", item.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.id").isEqualTo(item.getId())
+            .jsonPath("$.name").isEqualTo("Item 3");
+    }
+
+    @Test
+    void shouldReturn404ForUnknownItem() {
+        client.get().uri("/api/items/{id}", items.get(24).getId() + 1000)
+            .exchange()
+            .expectStatus().isNotFound()
+            .expectBody()
+            .jsonPath("$.error").isEqualTo("Not Found");
+    }
+
+    @Test
+    void shouldRejectInvalidPaginationParameters() {
+        client.get().uri("/api/items?size=101")
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.error").isEqualTo("Validation failed");
+
+        client.get().uri("/api/items?page=abc")
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.error").isEqualTo("Type Mismatch Error");
+    }
+
+    @Test
+    void shouldRateLimitApiRequests() {
+        for (int i = 0; i < 5; i++) {
+            client.get().uri("/api/test").exchange().expectStatus().isOk();
+        }
+
+        client.get().uri("/api/test")
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+            .expectHeader().exists("Retry-After");
+    }
+
+    @Test
+    void shouldNotRateLimitActuator() {
+        for (int i = 0; i < 6; i++) {
+            client.get().uri("/actuator/health/liveness").exchange().expectStatus().isOk();
+        }
+    }
+}
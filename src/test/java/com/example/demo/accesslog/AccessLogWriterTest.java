@@ -0,0 +1,132 @@
+package com.example.demo.accesslog;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.demo.config.AccessLogProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogWriterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AccessLogProperties properties = new AccessLogProperties();
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() {
+        properties.setFile(directory.resolve("logs/access.jsonl"));
+        properties.setFlushInterval(Duration.ofMillis(10));
+    }
+
+    @Test
+    void shouldWriteOneJsonLinePerEntry() throws IOException {
+        AccessLogWriter writer = new AccessLogWriter(properties, meterRegistry);
+        writer.start();
+        assertTrue(writer.log(entry(200, "allowed")));
+        assertTrue(writer.log(entry(429, "rejected")));
+        assertTrue(writer.log(new AccessLogEntry(0, "GET", "UNMATCHED", "/favicon.ico", 404, 1_000, "10.0.0.2", null)));
+        writer.stop();
+
+        List<JsonNode> lines = lines();
+        assertEquals(3, lines.size());
+        assertEquals("/api/items/{id}", lines.get(0).get("route").asText());
+        assertEquals("/api/items/7", lines.get(0).get("path").asText());
+        assertEquals(200, lines.get(0).get("status").asInt());
+        assertEquals(1500, lines.get(0).get("durationUs").asLong());
+        assertEquals("10.0.0.1", lines.get(0).get("client").asText());
+        assertEquals("allowed", lines.get(0).get("rateLimit").asText());
+        assertEquals("rejected", lines.get(1).get("rateLimit").asText());
+        assertFalse(lines.get(2).has("rateLimit"));
+        assertEquals(3, meterRegistry.get("accesslog.entries").tag("outcome", "written").counter().count());
+    }
+
+    @Test
+    void shouldLogOneEventPerEntryWithoutFile() throws IOException {
+        properties.setFile(null);
+        Logger accessLogger = (Logger) LoggerFactory.getLogger("access-log");
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        accessLogger.addAppender(appender);
+        try {
+            AccessLogWriter writer = new AccessLogWriter(properties, meterRegistry);
+            writer.start();
+            writer.log(entry(200, "allowed"));
+            writer.log(entry(429, "rejected"));
+            writer.stop();
+        } finally {
+            accessLogger.detachAppender(appender);
+        }
+
+        assertEquals(2, appender.list.size());
+        assertEquals("allowed", objectMapper.readTree(appender.list.get(0).getFormattedMessage()).get("rateLimit").asText());
+        assertEquals("rejected", objectMapper.readTree(appender.list.get(1).getFormattedMessage()).get("rateLimit").asText());
+    }
+
+    @Test
+    void shouldDropAndReportWhenFull() throws IOException {
+        properties.setCapacity(2);
+        properties.setOverflowPolicy(AccessLogProperties.OverflowPolicy.DROP_AND_REPORT);
+        AccessLogWriter writer = new AccessLogWriter(properties, meterRegistry);
+        writer.start();
+        // The drainer may take entries while they are offered, so overflow is only certain with many
+        int accepted = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (writer.log(entry(200, "allowed"))) {
+                accepted++;
+            }
+        }
+        writer.stop();
+
+        double dropped = meterRegistry.get("accesslog.entries").tag("outcome", "dropped").counter().count();
+        assertEquals(10_000, accepted + dropped);
+        List<JsonNode> lines = lines();
+        long reported = lines.stream().filter(line -> line.has("dropped")).mapToLong(line -> line.get("dropped").asLong()).sum();
+        assertEquals(accepted, lines.size() - lines.stream().filter(line -> line.has("dropped")).count());
+        assertEquals((long) dropped, reported);
+    }
+
+    @Test
+    void shouldOnlyCountDropsWithDropPolicy() throws IOException {
+        properties.setOverflowPolicy(AccessLogProperties.OverflowPolicy.DROP);
+        AccessLogWriter writer = new AccessLogWriter(properties, meterRegistry);
+        writer.start();
+        writer.stop();
+
+        assertFalse(writer.log(entry(200, "allowed")));
+        assertEquals(1, meterRegistry.get("accesslog.entries").tag("outcome", "dropped").counter().count());
+        assertTrue(lines().isEmpty());
+    }
+
+    private static AccessLogEntry entry(int status, String rateLimit) {
+        return new AccessLogEntry(System.currentTimeMillis(), "GET", "/api/items/{id}", "/api/items/7", status,
+            1_500_000, "10.0.0.1", rateLimit);
+    }
+
+    private List<JsonNode> lines() throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(properties.getFile())) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+}
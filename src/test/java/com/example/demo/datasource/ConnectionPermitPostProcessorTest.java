@@ -0,0 +1,82 @@
+package com.example.demo.datasource;
+
+import com.example.demo.config.VirtualThreadProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPermitPostProcessorTest {
+
+    private HikariDataSource pool;
+    private HikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:connection-permits;DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setPoolName("permits");
+        pool.setMaximumPoolSize(2);
+
+        VirtualThreadProperties properties = new VirtualThreadProperties();
+        properties.setConnectionPermitTimeout(Duration.ofMillis(200));
+        ConnectionPermitPostProcessor postProcessor = new ConnectionPermitPostProcessor(
+            new StaticListableBeanFactory(Map.of("properties", properties)).getBeanProvider(VirtualThreadProperties.class));
+        dataSource = (HikariDataSource) postProcessor.postProcessAfterInitialization(pool, "dataSource");
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void shouldKeepHikariType() {
+        assertEquals("permits", dataSource.getPoolName());
+        assertEquals(2, dataSource.getMaximumPoolSize());
+    }
+
+    @Test
+    void shouldTimeOutWhenAllPermitsAreHeld() throws SQLException {
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            SQLException e = assertThrows(SQLException.class, dataSource::getConnection);
+            assertInstanceOf(SQLTransientConnectionException.class, e);
+            assertTrue(e.getMessage().contains("connection permit"));
+        }
+    }
+
+    @Test
+    void shouldHandPermitToWaiterWhenConnectionCloses() throws Exception {
+        Connection first = dataSource.getConnection();
+        try (Connection second = dataSource.getConnection()) {
+            CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+                try (Connection third = dataSource.getConnection()) {
+                    return third.isValid(1);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            first.close();
+            first.close();
+
+            assertTrue(waiter.get(1, TimeUnit.SECONDS));
+        }
+        // A repeated close must not release a second permit
+        try (Connection a = dataSource.getConnection(); Connection b = dataSource.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        }
+    }
+}
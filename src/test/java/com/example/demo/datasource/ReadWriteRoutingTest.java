@@ -0,0 +1,120 @@
+package com.example.demo.datasource;
+
+import com.example.demo.config.ReadWriteRoutingConfig;
+import com.example.demo.config.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Uses two in-memory H2 databases standing in for the primary and the replica.
+ */
+class ReadWriteRoutingTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaDataSourceProperties properties;
+    private ReplicaHealthMonitor healthMonitor;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = h2Pool("routing-primary");
+        replica = h2Pool("routing-replica");
+        createMarker(primary, "primary");
+        createMarker(replica, "replica");
+
+        properties = new ReplicaDataSourceProperties();
+        properties.setMaxLag(Duration.ofSeconds(10));
+        healthMonitor = new ReplicaHealthMonitor(replica, properties);
+        healthMonitor.check();
+        dataSource = new ReadWriteRoutingConfig().dataSource(primary, replica, healthMonitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        healthMonitor.stop();
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void shouldRouteReadOnlyConnectionsToReplica() throws SQLException {
+        assertTrue(healthMonitor.isAvailable());
+        assertEquals("replica", markerOf(dataSource, true));
+    }
+
+    @Test
+    void shouldRouteWritableConnectionsToPrimary() throws SQLException {
+        assertEquals("primary", markerOf(dataSource, false));
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaUnreachable() throws SQLException {
+        replica.close();
+        healthMonitor.check();
+
+        assertFalse(healthMonitor.isAvailable());
+        assertNotNull(healthMonitor.getUnavailableReason());
+        assertEquals("primary", markerOf(dataSource, true));
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaLagging() throws SQLException {
+        properties.setLagQuery("SELECT 30");
+        healthMonitor.check();
+
+        assertFalse(healthMonitor.isAvailable());
+        assertEquals("primary", markerOf(dataSource, true));
+    }
+
+    @Test
+    void shouldReturnToReplicaWhenLagRecovers() throws SQLException {
+        properties.setLagQuery("SELECT 30");
+        healthMonitor.check();
+        properties.setLagQuery("SELECT 0");
+        healthMonitor.check();
+
+        assertTrue(healthMonitor.isAvailable());
+        assertEquals("replica", markerOf(dataSource, true));
+    }
+
+    private static HikariDataSource h2Pool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(2);
+        pool.setPoolName(name);
+        return pool;
+    }
+
+    private static void createMarker(DataSource dataSource, String name) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS marker");
+            statement.execute("CREATE TABLE marker (name VARCHAR(20))");
+            statement.execute("INSERT INTO marker VALUES ('" + name + "')");
+        }
+    }
+
+    private static String markerOf(DataSource dataSource, boolean readOnly) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT name FROM marker")) {
+                assertTrue(resultSet.next());
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
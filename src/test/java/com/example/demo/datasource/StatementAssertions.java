@@ -0,0 +1,33 @@
+package com.example.demo.datasource;
+
+import org.junit.jupiter.api.function.Executable;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Test assertions on the SQL statements an action issues on the calling thread, for example
+ * {@code assertStatementsAtMost(2, () -> mockMvc.perform(get("/api/items")))}.
+ */
+public final class StatementAssertions {
+
+    private StatementAssertions() {
+    }
+
+    /**
+     * Run the action and fail, listing the statements, if it issued more than {@code max} of them.
+     *
+     * @return the capture, for further assertions
+     */
+    public static StatementCapture assertStatementsAtMost(int max, Executable action) throws Throwable {
+        StatementCapture capture = StatementCapture.open();
+        try {
+            action.execute();
+        } finally {
+            capture.close();
+        }
+        if (capture.count() > max) {
+            throw new AssertionFailedError("Expected at most " + max + " SQL statements but " + capture.count()
+                + " were issued:\n  " + String.join("\n  ", capture.statements()), max, capture.count());
+        }
+        return capture;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.diagnostics;
+
+import com.example.demo.config.RateLimitProperties;
+import com.example.demo.ratelimit.RateLimitService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Records the rate limiter's JFR events in-process and reads them back from the dumped recording.
+ */
+class RateLimitEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRecordDecisionsAndCleanupSweeps() throws Exception {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRequestsPerMinute(1);
+        properties.setWindowDurationMs(60000);
+        RateLimitService rateLimitService = new RateLimitService(properties);
+
+        Path file = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RateLimitDecisionEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(RateLimitCleanupEvent.class);
+            recording.start();
+
+            rateLimitService.isAllowed("192.168.1.1");
+            rateLimitService.isAllowed("192.168.1.1");
+            rateLimitService.cleanupExpiredEntries();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> decisions = events(file, "com.example.demo.RateLimitDecision");
+        assertEquals(2, decisions.size());
+        assertEquals("192.168.1.1", decisions.get(0).getString("clientKey"));
+        assertTrue(decisions.get(0).getBoolean("allowed"));
+        assertTrue(decisions.get(0).getBoolean("computed"));
+        assertFalse(decisions.get(1).getBoolean("allowed"));
+        assertFalse(decisions.get(1).getBoolean("computed"));
+        assertEquals(2, decisions.get(1).getInt("requestCount"));
+
+        List<RecordedEvent> sweeps = events(file, "com.example.demo.RateLimitCleanup");
+        assertEquals(1, sweeps.size());
+        assertEquals(1, sweeps.get(0).getInt("scanned"));
+        assertEquals(0, sweeps.get(0).getInt("removed"));
+    }
+
+    @Test
+    void shouldSkipFastDecisionsBelowDefaultThreshold() throws Exception {
+        RateLimitService rateLimitService = new RateLimitService(new RateLimitProperties());
+
+        Path file = tempDir.resolve("threshold.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RateLimitDecisionEvent.class);
+            recording.start();
+            rateLimitService.isAllowed("192.168.1.1");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertTrue(events(file, "com.example.demo.RateLimitDecision").isEmpty());
+    }
+
+    static List<RecordedEvent> events(Path file, String name) throws Exception {
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .toList();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.dto;
+
+import com.example.demo.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ItemQueryTest {
+
+    @Test
+    void shouldDefaultToIdOrder() {
+        assertThat(ItemQuery.parse(null, null)).isEqualTo(ItemQuery.DEFAULT);
+        assertThat(ItemQuery.parse(List.of("id"), List.of())).isEqualTo(ItemQuery.DEFAULT);
+    }
+
+    @Test
+    void shouldCompleteSortWithIdTiebreaker() {
+        ItemQuery query = ItemQuery.parse(List.of("name:desc"), null);
+
+        assertThat(query.sort()).isEqualTo(Sort.by(Sort.Direction.DESC, "name", "id"));
+    }
+
+    @Test
+    void shouldSortByFilteredFieldByDefault() {
+        ItemQuery query = ItemQuery.parse(null, List.of("updatedAt:gt:2026-01-01T00:00:00Z"));
+
+        assertThat(query.sort()).isEqualTo(Sort.by("updatedAt", "id"));
+        assertThat(query.filters()).containsExactly(new ItemQuery.Filter(
+            ItemQuery.Field.UPDATED_AT, ItemQuery.Operator.GT, Instant.parse("2026-01-01T00:00:00Z")));
+    }
+
+    @Test
+    void shouldKeepColonsAndCommasInFilterValues() {
+        ItemQuery query = ItemQuery.parse(null, List.of("name:eq:a:b, c"));
+
+        assertThat(query.filters().get(0).value()).isEqualTo("a:b, c");
+    }
+
+    @Test
+    void shouldAllowIdOrderWithNameEquality() {
+        ItemQuery query = ItemQuery.parse(List.of("id:desc"), List.of("name:eq:Widget", "id:lt:100"));
+
+        assertThat(query.sort()).isEqualTo(Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    @Test
+    void shouldRejectIdOrderWithNamePrefix() {
+        assertThatThrownBy(() -> ItemQuery.parse(List.of("id"), List.of("name:prefix:Wid")))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void shouldRejectFiltersOnTwoIndexedFields() {
+        assertThatThrownBy(() -> ItemQuery.parse(null,
+                List.of("name:eq:Widget", "updatedAt:gt:2026-01-01T00:00:00Z")))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("cannot be combined");
+    }
+
+    @Test
+    void shouldRejectUnsupportedSorts() {
+        assertThatThrownBy(() -> ItemQuery.parse(List.of("name", "updatedAt"), null))
+            .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> ItemQuery.parse(List.of("name:asc,id:desc"), null))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("Mixed sort directions");
+        assertThatThrownBy(() -> ItemQuery.parse(List.of("name:sideways"), null))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void shouldRejectMalformedFilters() {
+        assertThatThrownBy(() -> ItemQuery.parse(null, List.of("name:prefix")))
+            .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> ItemQuery.parse(null, List.of("id:prefix:1")))
+            .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> ItemQuery.parse(null, List.of("id:eq:abc")))
+            .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> ItemQuery.parse(null, List.of("description:eq:x")))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+}
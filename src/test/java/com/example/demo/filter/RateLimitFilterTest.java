@@ -2,6 +2,7 @@ package com.example.demo.filter;
 
 import com.example.demo.config.RateLimitProperties;
 import com.example.demo.ratelimit.RateLimitService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,7 +36,7 @@ class RateLimitFilterTest {
     void setUp() {
         properties = new RateLimitProperties();
         properties.setEnabled(true);
-        rateLimitFilter = new RateLimitFilter(rateLimitService, properties);
+        rateLimitFilter = new RateLimitFilter(rateLimitService, properties, new ObjectMapper());
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
         request.setRemoteAddr("192.168.1.1");
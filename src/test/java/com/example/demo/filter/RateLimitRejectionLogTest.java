@@ -0,0 +1,63 @@
+package com.example.demo.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitRejectionLogTest {
+
+    @Mock
+    private Logger logger;
+
+    private long now;
+    private RateLimitRejectionLog rejectionLog;
+
+    @BeforeEach
+    void setUp() {
+        now = 1_000;
+        rejectionLog = new RateLimitRejectionLog(logger, Duration.ofSeconds(10), () -> now);
+    }
+
+    @Test
+    void shouldWarnAboutFirstRejection() {
+        assertTrue(rejectionLog.rejected("10.0.0.1", 30));
+
+        verify(logger).warn(anyString(), eq("10.0.0.1"), eq(30L), eq(1L));
+    }
+
+    @Test
+    void shouldWarnAtMostOncePerInterval() {
+        rejectionLog.rejected("10.0.0.1", 30);
+        for (int i = 0; i < 100; i++) {
+            assertFalse(rejectionLog.rejected("10.0.0.1", 30));
+        }
+        now += TimeUnit.SECONDS.toNanos(9);
+        assertFalse(rejectionLog.rejected("10.0.0.2", 20));
+
+        verify(logger, times(1)).warn(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void shouldCountRejectionsSinceLastWarning() {
+        rejectionLog.rejected("10.0.0.1", 30);
+        for (int i = 0; i < 4; i++) {
+            rejectionLog.rejected("10.0.0.1", 30);
+        }
+        now += TimeUnit.SECONDS.toNanos(10);
+
+        assertTrue(rejectionLog.rejected("10.0.0.2", 20));
+
+        verify(logger).warn(anyString(), eq("10.0.0.2"), eq(20L), eq(5L));
+    }
+}
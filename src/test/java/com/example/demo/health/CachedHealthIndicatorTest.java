@@ -0,0 +1,136 @@
+package com.example.demo.health;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for snapshot staleness and check timeouts, using a clock the tests advance by hand.
+ */
+class CachedHealthIndicatorTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReportUnknownBeforeFirstCheck() {
+        CachedHealthIndicator indicator = new CachedHealthIndicator(() -> Health.up().build(), Duration.ofSeconds(10), clock);
+
+        assertEquals(Status.UNKNOWN, indicator.health().getStatus());
+    }
+
+    @Test
+    void shouldServeSnapshotWithStaleness() throws Exception {
+        AtomicInteger checks = new AtomicInteger();
+        CachedHealthIndicator indicator = new CachedHealthIndicator(
+            () -> Health.up().withDetail("check", checks.incrementAndGet()).build(), Duration.ofSeconds(10), clock);
+        indicator.refresh(executor, TIMEOUT).get();
+
+        clock.advance(Duration.ofSeconds(3));
+        Health first = indicator.health();
+        Health second = indicator.health();
+
+        assertEquals(Status.UP, first.getStatus());
+        assertEquals(1, first.getDetails().get("check"));
+        assertEquals(3000L, first.getDetails().get("stalenessMs"));
+        assertEquals("2026-01-01T00:00:00Z", first.getDetails().get("checkedAt"));
+        assertEquals(1, second.getDetails().get("check"));
+        assertEquals(1, checks.get());
+    }
+
+    @Test
+    void shouldReportDownWhenSnapshotExceedsStalenessBudget() throws Exception {
+        CachedHealthIndicator indicator = new CachedHealthIndicator(() -> Health.up().build(), Duration.ofSeconds(10), clock);
+        indicator.refresh(executor, TIMEOUT).get();
+
+        clock.advance(Duration.ofSeconds(11));
+
+        Health health = indicator.health();
+        assertEquals(Status.DOWN, health.getStatus());
+        assertTrue(health.getDetails().get("error").toString().contains("staleness budget"));
+    }
+
+    @Test
+    void shouldReportDownWhenCheckTimesOutAndSkipOverlappingChecks() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        CachedHealthIndicator indicator = new CachedHealthIndicator(() -> {
+            started.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Health.up().build();
+        }, Duration.ofSeconds(10), clock);
+
+        indicator.refresh(executor, TIMEOUT).get();
+        indicator.refresh(executor, TIMEOUT).get();
+
+        Health health = indicator.health();
+        assertEquals(Status.DOWN, health.getStatus());
+        assertTrue(health.getDetails().get("error").toString().contains("timed out"));
+        assertEquals(1, started.get());
+        release.countDown();
+    }
+
+    @Test
+    void shouldReportDownWhenCheckThrows() throws Exception {
+        CachedHealthIndicator indicator = new CachedHealthIndicator(() -> {
+            throw new IllegalStateException("boom");
+        }, Duration.ofSeconds(10), clock);
+
+        indicator.refresh(executor, TIMEOUT).get();
+
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
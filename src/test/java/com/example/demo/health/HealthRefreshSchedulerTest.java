@@ -0,0 +1,50 @@
+package com.example.demo.health;
+
+import com.example.demo.config.HealthRefreshProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Clock;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HealthRefreshSchedulerTest {
+
+    private final HealthRefreshScheduler scheduler =
+        new HealthRefreshScheduler(new HealthRefreshProperties(), Clock.systemUTC());
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    void shouldRegisterWithoutWaitingForFirstCheck() throws Exception {
+        CountDownLatch checkStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CachedHealthIndicator indicator = scheduler.register(() -> {
+            checkStarted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Health.up().build();
+        });
+
+        assertEquals(Status.UNKNOWN, indicator.health().getStatus());
+        assertTrue(checkStarted.await(2, TimeUnit.SECONDS));
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (indicator.health().getStatus().equals(Status.UNKNOWN) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+}
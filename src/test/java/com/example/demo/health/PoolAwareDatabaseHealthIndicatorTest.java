@@ -0,0 +1,139 @@
+package com.example.demo.health;
+
+import com.example.demo.config.HealthRefreshProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exhausts a two-connection H2 pool to check that pressure is reported as DEGRADED while the dedicated
+ * probe connection keeps answering.
+ */
+class PoolAwareDatabaseHealthIndicatorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HealthRefreshProperties.Database thresholds = new HealthRefreshProperties.Database();
+    private HikariDataSource pool;
+    private PoolAwareDatabaseHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:pool-health;DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(2);
+        pool.setPoolName("pool-health");
+        pool.setConnectionTimeout(5000);
+        pool.setMetricRegistry(meterRegistry);
+        indicator = new PoolAwareDatabaseHealthIndicator(pool, meterRegistry, thresholds);
+    }
+
+    @AfterEach
+    void tearDown() {
+        indicator.close();
+        pool.close();
+    }
+
+    @Test
+    void shouldReportUpWhenPoolIsIdle() throws SQLException {
+        try (Connection ignored = pool.getConnection()) {
+            // starts the pool
+        }
+
+        Health health = indicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals("H2", health.getDetails().get("database"));
+        Map<?, ?> poolDetails = (Map<?, ?>) health.getDetails().get("pool");
+        assertEquals(0, poolDetails.get("active"));
+        assertEquals(2, poolDetails.get("max"));
+    }
+
+    @Test
+    void shouldReportDegradedButNotDownWhenPoolIsExhausted() throws Exception {
+        Connection first = pool.getConnection();
+        Connection second = pool.getConnection();
+        CompletableFuture<Void> waiter = CompletableFuture.runAsync(() -> {
+            try (Connection ignored = pool.getConnection()) {
+                // released right away once a connection is returned
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        try {
+            awaitPendingThreads();
+
+            Health health = indicator.health();
+
+            assertEquals(PoolAwareDatabaseHealthIndicator.DEGRADED, health.getStatus());
+            assertEquals("H2", health.getDetails().get("database"));
+            Map<?, ?> poolDetails = (Map<?, ?>) health.getDetails().get("pool");
+            assertEquals(1.0, poolDetails.get("saturation"));
+            assertTrue((Integer) poolDetails.get("pending") >= 1);
+            assertNotNull(health.getDetails().get("reasons"));
+        } finally {
+            first.close();
+            second.close();
+        }
+        waiter.get(5, TimeUnit.SECONDS);
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+
+    @Test
+    void shouldRetryProbeOnNewConnectionWhenKeptConnectionWasClosed() throws SQLException {
+        assertEquals(Status.UP, indicator.health().getStatus());
+        try (Connection connection = pool.getConnection();
+             Statement statement = connection.createStatement()) {
+            // Closes every other session, including the probe's kept connection
+            statement.execute("SELECT ABORT_SESSION(SESSION_ID) FROM INFORMATION_SCHEMA.SESSIONS"
+                + " WHERE SESSION_ID <> SESSION_ID()");
+        }
+
+        Health health = indicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals("H2", health.getDetails().get("database"));
+    }
+
+    @Test
+    void shouldReportDownWhenProbeFails() {
+        HikariDataSource unreachable = new HikariDataSource();
+        unreachable.setJdbcUrl("jdbc:unknown:nowhere");
+        unreachable.setPoolName("unreachable");
+        PoolAwareDatabaseHealthIndicator broken =
+            new PoolAwareDatabaseHealthIndicator(unreachable, meterRegistry, thresholds);
+        try {
+            Health health = broken.health();
+
+            assertEquals(Status.DOWN, health.getStatus());
+            assertNotNull(health.getDetails().get("error"));
+        } finally {
+            broken.close();
+            unreachable.close();
+        }
+    }
+
+    private void awaitPendingThreads() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pool.getHikariPoolMXBean().getThreadsAwaitingConnection() == 0) {
+            if (System.nanoTime() > deadline) {
+                fail("No thread started waiting for a connection");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
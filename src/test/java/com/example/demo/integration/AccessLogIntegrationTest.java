@@ -0,0 +1,80 @@
+package com.example.demo.integration;
+
+import com.example.demo.config.AccessLogProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "demo.access-log.enabled=true",
+    "demo.access-log.flush-interval=20ms",
+    "ratelimit.requests-per-minute=1000"
+})
+class AccessLogIntegrationTest {
+
+    private static final Path LOG_FILE = createTempFile();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccessLogProperties properties;
+
+    @DynamicPropertySource
+    static void accessLogFile(DynamicPropertyRegistry registry) {
+        registry.add("demo.access-log.file", LOG_FILE::toString);
+    }
+
+    @Test
+    void shouldWriteRequestsAsJsonLines() throws Exception {
+        mockMvc.perform(get("/api/items/{id}", 999_999).header("X-Forwarded-For", "203.0.113.9"))
+            .andExpect(status().isNotFound());
+
+        List<String> lines = awaitLineContaining("203.0.113.9");
+        assertThat(lines).anySatisfy(line -> assertThat(line)
+            .contains("\"method\":\"GET\"")
+            .contains("\"route\":\"/api/items/{id}\"")
+            .contains("\"path\":\"/api/items/999999\"")
+            .contains("\"status\":404")
+            .contains("\"client\":\"203.0.113.9\"")
+            .contains("\"rateLimit\":\"allowed\""));
+        assertThat(properties.getFile()).isEqualTo(LOG_FILE);
+    }
+
+    private static List<String> awaitLineContaining(String text) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (true) {
+            List<String> lines = Files.readAllLines(LOG_FILE);
+            if (lines.stream().anyMatch(line -> line.contains(text)) || System.nanoTime() > deadline) {
+                return lines.stream().filter(line -> line.contains(text)).toList();
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static Path createTempFile() {
+        try {
+            return Files.createTempFile("access-", ".jsonl");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
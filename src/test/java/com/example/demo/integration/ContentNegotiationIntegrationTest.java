@@ -0,0 +1,112 @@
+package com.example.demo.integration;
+
+import com.example.demo.dto.PageResponse;
+import com.example.demo.entity.Item;
+import com.example.demo.repository.ItemRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "ratelimit.enabled=false")
+class ContentNegotiationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @BeforeEach
+    void setUp() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            items.add(new Item("Item " + i, "Description for item " + i));
+        }
+        itemRepository.saveAll(items);
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldServeCborWhenRequested() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/items").accept("application/cbor"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/cbor"))
+            .andReturn();
+
+        JsonNode page = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(20, page.get("content").size());
+        assertEquals("Item 1", page.get("content").get(0).get("name").asText());
+        assertEquals(30, page.get("totalElements").asLong());
+    }
+
+    @Test
+    void shouldServeSmileWhenRequested() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/items").accept("application/x-jackson-smile"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-jackson-smile"))
+            .andReturn();
+
+        JsonNode page = new SmileMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(20, page.get("content").size());
+        assertEquals(30, page.get("totalElements").asLong());
+    }
+
+    @Test
+    void shouldDefaultToJson() throws Exception {
+        mockMvc.perform(get("/api/items"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("application/json"));
+    }
+
+    @Test
+    void shouldWriteBinaryFormatsWithApplicationConverters() {
+        // The default CBOR and Smile converters use plain mappers without the application's modules
+        assertSame(cborConverter, firstConverterFor(MediaType.parseMediaType("application/cbor")));
+        assertSame(smileConverter, firstConverterFor(MediaType.parseMediaType("application/x-jackson-smile")));
+    }
+
+    private HttpMessageConverter<?> firstConverterFor(MediaType mediaType) {
+        return handlerAdapter.getMessageConverters().stream()
+            .filter(converter -> converter.canWrite(PageResponse.class, mediaType))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.demo.integration;
+
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "ratelimit.enabled=false",
+    "management.endpoints.web.exposure.include=health,jfr"
+})
+class FlightRecorderEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockMvc.perform(delete("/actuator/jfr"));
+    }
+
+    @Test
+    void shouldDumpApplicationEventsFromRunningRecording() throws Exception {
+        mockMvc.perform(post("/actuator/jfr")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"maxAge\":\"PT5M\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("RUNNING"))
+            .andExpect(jsonPath("$.settings").value("default"));
+
+        mockMvc.perform(get("/api/items").param("page", "0").param("size", "5")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/items/999999")).andExpect(status().isNotFound());
+
+        byte[] dump = mockMvc.perform(get("/actuator/jfr"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsByteArray();
+        Path file = tempDir.resolve("dump.jfr");
+        Files.write(file, dump);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("com.example.demo.ItemPageQuery");
+            assertThat(event.getInt("size")).isEqualTo(5);
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("com.example.demo.HandledException");
+            assertThat(event.getInt("status")).isEqualTo(404);
+        });
+        assertThat(events).noneMatch(event -> List.of(
+                "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation")
+            .contains(event.getEventType().getName()));
+    }
+
+    @Test
+    void shouldDumpOnlyItsOwnRecording() throws Exception {
+        mockMvc.perform(get("/actuator/jfr"))
+            .andExpect(status().isNotFound());
+
+        try (Recording foreign = new Recording()) {
+            foreign.enable(ForeignEvent.class);
+            foreign.start();
+            new ForeignEvent().commit();
+
+            mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isOk());
+            byte[] dump = mockMvc.perform(get("/actuator/jfr"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+            Path file = tempDir.resolve("own.jfr");
+            Files.write(file, dump);
+
+            assertThat(RecordingFile.readAllEvents(file))
+                .noneMatch(event -> event.getEventType().getName().equals("test.ForeignEvent"));
+        }
+    }
+
+    @Test
+    void shouldStopRecording() throws Exception {
+        mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON).content("{}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/actuator/jfr"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("demo-actuator"));
+        mockMvc.perform(delete("/actuator/jfr"))
+            .andExpect(status().isNoContent());
+    }
+
+    /**
+     * Recorded only by a recording of the test's own, never by the endpoint's.
+     */
+    @Name("test.ForeignEvent")
+    @Enabled(false)
+    static class ForeignEvent extends Event {
+    }
+}
@@ -86,7 +86,9 @@ class HealthEndpointIntegrationTest {
     void healthEndpoint_shouldIncludeDatabaseDetails() throws Exception {
         mockMvc.perform(get("/actuator/health"))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$.components.db.details.database").exists());
+            .andExpect(jsonPath("$.components.db.details.database").exists())
+            .andExpect(jsonPath("$.components.db.details.pool.max").isNumber())
+            .andExpect(jsonPath("$.components.db.details.pool.saturation").isNumber());
     }
 
     @Test
@@ -98,6 +100,16 @@ class HealthEndpointIntegrationTest {
             .andExpect(jsonPath("$.components.diskSpace.details.threshold").exists());
     }
 
+    @Test
+    void readinessEndpoint_shouldAnswerFromRefreshedSnapshots() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.components.db.details.checkedAt").exists())
+            .andExpect(jsonPath("$.components.db.details.stalenessMs").isNumber())
+            .andExpect(jsonPath("$.components.diskSpace.details.checkedAt").exists())
+            .andExpect(jsonPath("$.components.diskSpace.details.stalenessMs").isNumber());
+    }
+
     @Test
     void readinessEndpoint_shouldIncludeDatabaseHealth() throws Exception {
         mockMvc.perform(get("/actuator/health/readiness"))
@@ -163,4 +175,11 @@ class HealthEndpointIntegrationTest {
             .andExpect(jsonPath("$.components.readinessState").exists())
             .andExpect(jsonPath("$.components.readinessState.status").value("UP"));
     }
+
+    @Test
+    void jfrEndpoint_shouldNotBeExposedWithoutDevProfile() throws Exception {
+        // Recordings and snapshots would be served without authentication
+        mockMvc.perform(get("/actuator/jfr"))
+            .andExpect(status().isNotFound());
+    }
 }
@@ -0,0 +1,86 @@
+package com.example.demo.integration;
+
+import com.example.demo.repository.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "ratelimit.enabled=false",
+    "demo.bulk.chunk-size=100"
+})
+class ItemBulkIngestIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldInsertAllItemsInChunks() throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 1; i <= 250; i++) {
+            if (i > 1) {
+                body.append(',');
+            }
+            body.append("{\"name\":\"Item ").append(i).append("\",\"description\":\"Bulk item\"}");
+        }
+        body.append(']');
+
+        mockMvc.perform(post("/api/items/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body.toString()))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.inserted").value(250))
+            .andExpect(jsonPath("$.chunks").value(3));
+
+        assertEquals(250, itemRepository.count());
+    }
+
+    @Test
+    void shouldRejectNonArrayBody() throws Exception {
+        mockMvc.perform(post("/api/items/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Item\"}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Invalid Request"));
+    }
+
+    @Test
+    void shouldRejectItemWithoutName() throws Exception {
+        mockMvc.perform(post("/api/items/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"name\":\"Item 1\"},{\"description\":\"missing name\"}]"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Validation failed"));
+
+        assertEquals(0, itemRepository.count());
+    }
+
+    @Test
+    void shouldRejectMalformedJson() throws Exception {
+        mockMvc.perform(post("/api/items/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"name\":"))
+            .andExpect(status().isBadRequest());
+    }
+}
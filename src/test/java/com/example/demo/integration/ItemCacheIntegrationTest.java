@@ -0,0 +1,99 @@
+package com.example.demo.integration;
+
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.entity.Item;
+import com.example.demo.repository.ItemRepository;
+import com.example.demo.service.ItemLookupService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ItemCacheIntegrationTest {
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemLookupService itemLookupService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        item = itemRepository.save(new Item("Cached item", "Loaded through the second-level cache"));
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromEntityCache() {
+        for (int i = 0; i < 5; i++) {
+            itemLookupService.findById(item.getId());
+        }
+
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(Item.class.getName());
+        assertEquals(1, region.getMissCount());
+        assertEquals(4, region.getHitCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void shouldInvalidateEntityCacheAfterUpdate() {
+        itemLookupService.findById(item.getId());
+
+        Item loaded = itemRepository.findById(item.getId()).orElseThrow();
+        loaded.setName("Renamed item");
+        itemRepository.save(loaded);
+
+        ItemSummary summary = itemLookupService.findById(item.getId());
+        assertEquals("Renamed item", summary.name());
+    }
+
+    @Test
+    void shouldServeRepeatedListingsFromQueryCache() {
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        itemRepository.findSummaries(pageable);
+        itemRepository.findSummaries(pageable);
+
+        assertTrue(statistics.getQueryCacheHitCount() > 0, "expected query cache hits");
+        assertTrue(statistics.getQueryCacheHitCount() >= statistics.getQueryCacheMissCount());
+    }
+
+    @Test
+    void shouldInvalidateQueryCacheAfterInsert() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        assertEquals(1, itemRepository.findSummaries(pageable).getTotalElements());
+
+        itemRepository.save(new Item("Another item", "Added after the listing was cached"));
+
+        Page<ItemSummary> page = itemRepository.findSummaries(pageable);
+        assertEquals(2, page.getTotalElements());
+        assertEquals(2, page.getNumberOfElements());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.integration;
+
+import com.example.demo.entity.Item;
+import com.example.demo.repository.ItemRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "ratelimit.enabled=false")
+class ItemExportIntegrationTest {
+
+    private static final int ITEM_COUNT = 2500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 1; i <= ITEM_COUNT; i++) {
+            items.add(new Item("Item " + i, "Description for item " + i));
+        }
+        itemRepository.saveAll(items);
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldStreamEveryItemAsOneJsonLine() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/items/export"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+            .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(ITEM_COUNT, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Item 1", first.get("name").asText());
+        JsonNode last = objectMapper.readTree(lines[ITEM_COUNT - 1]);
+        assertEquals("Item " + ITEM_COUNT, last.get("name").asText());
+    }
+
+    @Test
+    void shouldReturnEmptyBodyWhenNoItems() throws Exception {
+        itemRepository.deleteAllInBatch();
+
+        mockMvc.perform(get("/api/items/export"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(""));
+    }
+}
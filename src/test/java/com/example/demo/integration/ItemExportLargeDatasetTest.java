@@ -0,0 +1,84 @@
+package com.example.demo.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exports a generated catalog far larger than the heap the test JVM runs with (see the largeTest task),
+ * so the export fails with an OutOfMemoryError unless it streams. The database is file-backed, since an
+ * in-memory one would itself live on the heap, and the rows are generated in SQL so the search index stays empty.
+ * Run with ./gradlew largeTest; -Dexport.rows overrides the row count.
+ */
+@Tag("large")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ItemExportLargeDatasetTest {
+
+    private static final long ROWS = Long.getLong("export.rows", 5_000_000);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void fileDatabase(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("export-large");
+        registry.add("spring.datasource.url", () -> "jdbc:h2:file:" + directory.resolve("items") + ";CACHE_SIZE=8192");
+        registry.add("ratelimit.enabled", () -> "false");
+    }
+
+    @Test
+    void shouldExportCatalogLargerThanHeap() throws Exception {
+        jdbcTemplate.update("insert into items (id, name, description, updated_at, deleted, change_seq)"
+            + " select x, 'Item ' || x, 'Description for item ' || x || ' with some padding to widen the row',"
+            + " current_timestamp, false, 0 from system_range(1, ?)", ROWS);
+
+        HttpResponse<InputStream> response = HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/items/export")).build(),
+            HttpResponse.BodyHandlers.ofInputStream());
+        assertEquals(200, response.statusCode());
+
+        long lines = 0;
+        String last = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines++;
+                last = line;
+            }
+        }
+
+        assertEquals(ROWS, lines);
+        JsonNode lastItem = objectMapper.readTree(last);
+        assertEquals("Item " + ROWS, lastItem.get("name").asText());
+    }
+}
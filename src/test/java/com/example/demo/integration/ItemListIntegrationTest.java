@@ -0,0 +1,156 @@
+package com.example.demo.integration;
+
+import com.example.demo.entity.Item;
+import com.example.demo.repository.ItemRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "ratelimit.enabled=false")
+class ItemListIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            items.add(new Item("Item " + i, "Description for item " + i));
+        }
+        itemRepository.saveAll(items);
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldReturnFirstPageOfSummaries() throws Exception {
+        mockMvc.perform(get("/api/items"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(20)))
+            .andExpect(jsonPath("$.content[0].id").isNumber())
+            .andExpect(jsonPath("$.content[0].name").value("Item 1"))
+            .andExpect(jsonPath("$.content[0].description").value("Description for item 1"))
+            .andExpect(jsonPath("$.totalElements").value(50))
+            .andExpect(jsonPath("$.totalPages").value(3))
+            .andExpect(jsonPath("$.number").value(0))
+            .andExpect(jsonPath("$.size").value(20))
+            .andExpect(jsonPath("$.pageable").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnRequestedPage() throws Exception {
+        mockMvc.perform(get("/api/items").param("page", "2").param("size", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(10)))
+            .andExpect(jsonPath("$.content[0].name").value("Item 41"))
+            .andExpect(jsonPath("$.last").value(true));
+    }
+
+    @Test
+    void shouldRejectSizeAboveMaximum() throws Exception {
+        mockMvc.perform(get("/api/items").param("size", "101"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Validation failed"));
+    }
+
+    @Test
+    void shouldRejectNonNumericPage() throws Exception {
+        mockMvc.perform(get("/api/items").param("page", "abc"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Type Mismatch Error"));
+    }
+
+    @Test
+    void shouldSortByName() throws Exception {
+        mockMvc.perform(get("/api/items").param("sort", "name:desc").param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].name").value("Item 9"))
+            .andExpect(jsonPath("$.content[1].name").value("Item 8"))
+            .andExpect(jsonPath("$.totalElements").value(50));
+    }
+
+    @Test
+    void shouldFilterByNamePrefixInNameOrder() throws Exception {
+        mockMvc.perform(get("/api/items").param("filter", "name:prefix:Item 4"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(11)))
+            .andExpect(jsonPath("$.content[0].name").value("Item 4"))
+            .andExpect(jsonPath("$.content[1].name").value("Item 40"))
+            .andExpect(jsonPath("$.totalElements").value(11));
+    }
+
+    @Test
+    void shouldProjectFilteredListingWithoutLoadingEntities() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/items").param("filter", "name:prefix:Item 1").param("sort", "name"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(11)))
+            .andExpect(jsonPath("$.content[0].description").value("Description for item 1"));
+
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void shouldFilterByExactNameInIdOrder() throws Exception {
+        mockMvc.perform(get("/api/items").param("filter", "name:eq:Item 7").param("sort", "id"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].name").value("Item 7"));
+    }
+
+    @Test
+    void shouldFilterByUpdateTimeRange() throws Exception {
+        mockMvc.perform(get("/api/items")
+                .param("filter", "updatedAt:gte:2000-01-01T00:00:00Z")
+                .param("filter", "updatedAt:lt:2000-01-02T00:00:00Z"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(0)))
+            .andExpect(jsonPath("$.empty").value(true));
+    }
+
+    @Test
+    void shouldRejectSortNotServedByFilterIndex() throws Exception {
+        mockMvc.perform(get("/api/items").param("filter", "name:prefix:Item").param("sort", "updatedAt"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Invalid Request"));
+    }
+
+    @Test
+    void shouldRejectUnsupportedField() throws Exception {
+        mockMvc.perform(get("/api/items").param("filter", "description:eq:x"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Invalid Request"));
+    }
+}
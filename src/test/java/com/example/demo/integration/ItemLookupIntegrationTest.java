@@ -0,0 +1,101 @@
+package com.example.demo.integration;
+
+import com.example.demo.entity.Item;
+import com.example.demo.repository.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "ratelimit.enabled=false")
+class ItemLookupIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private Item first;
+    private Item second;
+    private Item third;
+
+    @BeforeEach
+    void setUp() {
+        List<Item> saved = itemRepository.saveAll(List.of(
+            new Item("Item 1", "First"),
+            new Item("Item 2", "Second"),
+            new Item("Item 3", "Third")
+        ));
+        first = saved.get(0);
+        second = saved.get(1);
+        third = saved.get(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldReturnSingleItem() throws Exception {
+        mockMvc.perform(get("/api/items/{id}", second.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(second.getId()))
+            .andExpect(jsonPath("$.name").value("Item 2"));
+    }
+
+    @Test
+    void shouldReturn404ForUnknownItem() throws Exception {
+        mockMvc.perform(get("/api/items/{id}", third.getId() + 1000))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.error").value("Not Found"));
+    }
+
+    @Test
+    void shouldReturnItemsInRequestOrderAndReportMisses() throws Exception {
+        long unknown = third.getId() + 1000;
+        String ids = third.getId() + "," + unknown + "," + first.getId();
+
+        mockMvc.perform(get("/api/items").param("ids", ids))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(2)))
+            .andExpect(jsonPath("$.items[0].name").value("Item 3"))
+            .andExpect(jsonPath("$.items[1].name").value("Item 1"))
+            .andExpect(jsonPath("$.missing", contains((int) unknown)));
+    }
+
+    @Test
+    void shouldRejectTooManyIds() throws Exception {
+        StringBuilder ids = new StringBuilder("1");
+        for (int i = 2; i <= 501; i++) {
+            ids.append(',').append(i);
+        }
+
+        mockMvc.perform(get("/api/items").param("ids", ids.toString()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Validation failed"));
+    }
+
+    @Test
+    void shouldRejectBlankIds() throws Exception {
+        mockMvc.perform(get("/api/items").param("ids", first.getId() + ",," + second.getId()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Validation failed"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.demo.integration;
+
+import com.example.demo.entity.Item;
+import com.example.demo.repository.ItemRepository;
+import com.example.demo.search.ItemSearchIndex;
+import com.example.demo.search.ItemSearchIndexLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "ratelimit.enabled=false")
+class ItemSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemSearchIndex itemSearchIndex;
+
+    @Autowired
+    private ItemSearchIndexLoader itemSearchIndexLoader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        itemSearchIndex.clear();
+    }
+
+    @Test
+    void shouldFindSavedItemsByPrefix() throws Exception {
+        Item widget = itemRepository.save(new Item("Blue Widget", "Sturdy"));
+        itemRepository.save(new Item("Gadget", "Fits any widget"));
+
+        mockMvc.perform(get("/api/items/search").param("q", "wid"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].item.id").value(widget.getId()))
+            .andExpect(jsonPath("$[0].item.name").value("Blue Widget"))
+            .andExpect(jsonPath("$[0].score").isNumber())
+            .andExpect(header().doesNotExist("X-Search-Truncated"));
+    }
+
+    @Test
+    void shouldFlagTruncatedPrefixExpansion() throws Exception {
+        // One more distinct term than demo.search.max-prefix-expansions
+        itemRepository.saveAll(IntStream.rangeClosed(1, 65).mapToObj(i -> new Item("W" + i, null)).toList());
+
+        mockMvc.perform(get("/api/items/search").param("q", "w"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(20)))
+            .andExpect(header().string("X-Search-Truncated", "true"));
+    }
+
+    @Test
+    void shouldReflectUpdatesAndDeletions() throws Exception {
+        Item item = itemRepository.save(new Item("Widget", null));
+        item.setName("Sprocket");
+        itemRepository.save(item);
+        Item deleted = itemRepository.save(new Item("Sprocket spare", null));
+        deleted.markDeleted();
+        itemRepository.save(deleted);
+
+        mockMvc.perform(get("/api/items/search").param("q", "widget"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/items/search").param("q", "sprocket"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].item.id").value(item.getId()));
+    }
+
+    @Test
+    void shouldRebuildIndexFromDatabase() throws Exception {
+        itemRepository.saveAll(List.of(new Item("Item 1", null), new Item("Item 2", null), new Item("Item 3", null)));
+        itemSearchIndex.clear();
+
+        assertEquals(3, itemSearchIndexLoader.load());
+
+        mockMvc.perform(get("/api/items/search").param("q", "item").param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void shouldCatchUpWithWritesTheListenerMissed() throws Exception {
+        Item widget = itemRepository.save(new Item("Widget", null));
+        itemSearchIndex.clear();
+        itemSearchIndexLoader.load();
+
+        // Written the way another instance would be, past this one's entity listener
+        long changeSeq = jdbcTemplate.queryForObject("select max(change_seq) from items", Long.class);
+        jdbcTemplate.update("update items set name = 'Sprocket', change_seq = ? where id = ?",
+            changeSeq + 1, widget.getId());
+        jdbcTemplate.update("insert into items (id, name, updated_at, deleted, change_seq) values (?, ?, ?, false, ?)",
+            widget.getId() + 1000, "Sprocket spare", Timestamp.from(Instant.now()), changeSeq + 2);
+
+        assertEquals(2, itemSearchIndexLoader.catchUp());
+        assertEquals(0, itemSearchIndexLoader.catchUp());
+
+        mockMvc.perform(get("/api/items/search").param("q", "widget"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/items/search").param("q", "sprocket"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void shouldRejectBlankQuery() throws Exception {
+        mockMvc.perform(get("/api/items/search").param("q", " "))
+            .andExpect(status().isBadRequest());
+    }
+}
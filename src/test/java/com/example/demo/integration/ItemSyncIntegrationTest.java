@@ -0,0 +1,165 @@
+package com.example.demo.integration;
+
+import com.example.demo.entity.Item;
+import com.example.demo.repository.ItemRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "ratelimit.enabled=false")
+class ItemSyncIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Item> items;
+
+    @BeforeEach
+    void setUp() {
+        List<Item> newItems = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            newItems.add(new Item("Item " + i, "Description for item " + i));
+        }
+        items = itemRepository.saveAll(newItems);
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldReturnAllItemsWithoutToken() throws Exception {
+        JsonNode body = changes(get("/api/items/changes"));
+
+        assertEquals(5, body.get("changes").size());
+        assertFalse(body.get("hasMore").asBoolean());
+        assertTrue(body.hasNonNull("nextToken"));
+    }
+
+    @Test
+    void shouldReturnOnlyChangesAfterToken() throws Exception {
+        String token = changes(get("/api/items/changes")).get("nextToken").asText();
+
+        Item updated = itemRepository.findById(items.get(1).getId()).orElseThrow();
+        updated.setName("Renamed");
+        itemRepository.save(updated);
+        Item deleted = itemRepository.findById(items.get(3).getId()).orElseThrow();
+        deleted.markDeleted();
+        itemRepository.save(deleted);
+
+        JsonNode body = changes(get("/api/items/changes").param("since", token));
+
+        JsonNode changes = body.get("changes");
+        assertEquals(2, changes.size());
+        assertEquals("Renamed", changes.get(0).get("name").asText());
+        assertFalse(changes.get(0).get("deleted").asBoolean());
+        assertEquals(deleted.getId().longValue(), changes.get(1).get("id").asLong());
+        assertTrue(changes.get(1).get("deleted").asBoolean());
+        assertFalse(changes.get(1).has("name"));
+
+        JsonNode empty = changes(get("/api/items/changes").param("since", body.get("nextToken").asText()));
+        assertEquals(0, empty.get("changes").size());
+    }
+
+    @Test
+    void shouldPageThroughChangesWithLimit() throws Exception {
+        JsonNode first = changes(get("/api/items/changes").param("limit", "3"));
+        assertEquals(3, first.get("changes").size());
+        assertTrue(first.get("hasMore").asBoolean());
+
+        JsonNode second = changes(get("/api/items/changes")
+            .param("limit", "3")
+            .param("since", first.get("nextToken").asText()));
+        assertEquals(2, second.get("changes").size());
+        assertFalse(second.get("hasMore").asBoolean());
+    }
+
+    @Test
+    void shouldDeliverChangesInCommitOrder() throws Exception {
+        String token = changes(get("/api/items/changes")).get("nextToken").asText();
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // The first writer starts first but commits last; its change sequence value is taken at commit
+        CompletableFuture<Item> slow = CompletableFuture.supplyAsync(() ->
+            new TransactionTemplate(transactionManager).execute(status -> {
+                Item item = itemRepository.save(new Item("Slow", "Committed second"));
+                written.countDown();
+                awaitQuietly(release);
+                return item;
+            }));
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+
+        // The second writer is not held up by the open transaction
+        Item fast = CompletableFuture.supplyAsync(() ->
+            itemRepository.save(new Item("Fast", "Committed first"))).get(5, TimeUnit.SECONDS);
+        JsonNode first = changes(get("/api/items/changes").param("since", token));
+        assertEquals(1, first.get("changes").size());
+        assertEquals(fast.getId().longValue(), first.get("changes").get(0).get("id").asLong());
+
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+
+        JsonNode changes = changes(get("/api/items/changes").param("since", first.get("nextToken").asText()))
+            .get("changes");
+        assertEquals(1, changes.size());
+        assertEquals("Slow", changes.get(0).get("name").asText());
+        assertTrue(slow.get().getChangeSeq() > fast.getChangeSeq());
+    }
+
+    @Test
+    void shouldRejectMalformedToken() throws Exception {
+        mockMvc.perform(get("/api/items/changes").param("since", "not-a-token"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Invalid Request"));
+    }
+
+    private JsonNode changes(MockHttpServletRequestBuilder request) throws Exception {
+        String content = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(content);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
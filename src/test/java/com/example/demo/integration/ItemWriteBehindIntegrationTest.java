@@ -0,0 +1,77 @@
+package com.example.demo.integration;
+
+import com.example.demo.repository.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "ratelimit.enabled=false",
+    "demo.write-behind.enabled=true",
+    "demo.write-behind.durability=committed",
+    "demo.write-behind.flush-size=8",
+    "demo.write-behind.flush-interval=20ms"
+})
+class ItemWriteBehindIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldAnswerOnceGroupCommitLands() throws Exception {
+        mockMvc.perform(post("/api/items")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Widget\"}"))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").isNumber());
+
+        assertThat(itemRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCommitConcurrentWritesInGroups() throws Exception {
+        List<CompletableFuture<MvcResult>> requests = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String body = "{\"name\":\"Item " + i + "\"}";
+            requests.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return mockMvc.perform(post("/api/items").contentType(MediaType.APPLICATION_JSON).content(body))
+                        .andReturn();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+
+        for (CompletableFuture<MvcResult> request : requests) {
+            assertThat(request.get().getResponse().getStatus()).isEqualTo(201);
+        }
+        assertThat(itemRepository.count()).isEqualTo(40);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.integration;
+
+import com.example.demo.latency.RouteLatencyRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "ratelimit.enabled=false")
+class LatencyEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RouteLatencyRecorder routeLatencyRecorder;
+
+    @Test
+    void shouldReportLatencyByRoutePattern() throws Exception {
+        mockMvc.perform(get("/api/test")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/items/999999")).andExpect(status().isNotFound());
+        routeLatencyRecorder.rotate();
+
+        mockMvc.perform(get("/actuator/latency"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.window").value("PT1M"))
+            .andExpect(jsonPath("$.routes[?(@.route == '/api/test' && @.status == 200)].count").value(hasItem(1)))
+            .andExpect(jsonPath("$.routes[?(@.route == '/api/items/{id}' && @.status == 404)].method")
+                .value(hasItem("GET")))
+            .andExpect(jsonPath("$.routes[?(@.route == '/api/test')].p99Ms").isNotEmpty());
+    }
+
+    @Test
+    void shouldExposeWindowPercentilesAsMetrics() throws Exception {
+        mockMvc.perform(get("/api/test")).andExpect(status().isOk());
+        routeLatencyRecorder.rotate();
+
+        mockMvc.perform(get("/actuator/metrics/http.server.latency.window")
+                .param("tag", "route:/api/test")
+                .param("tag", "quantile:0.99"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.measurements[0].value").isNumber());
+    }
+}
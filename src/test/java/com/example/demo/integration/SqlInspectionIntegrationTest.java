@@ -0,0 +1,100 @@
+package com.example.demo.integration;
+
+import com.example.demo.datasource.StatementCapture;
+import com.example.demo.entity.Item;
+import com.example.demo.repository.ItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.demo.datasource.StatementAssertions.assertStatementsAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "ratelimit.enabled=false",
+    "demo.sql.slow-threshold=0ms",
+    "demo.sql.route-budgets[/api/items]=0"
+})
+class SqlInspectionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            items.add(new Item("Item " + i, "Description for item " + i));
+        }
+        itemRepository.saveAll(items);
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void listItemsShouldIssueAtMostTwoStatements() throws Throwable {
+        assertStatementsAtMost(2, () -> mockMvc.perform(get("/api/items")).andExpect(status().isOk()));
+    }
+
+    @Test
+    void shouldListStatementsWhenOverBudget() {
+        assertThatThrownBy(() -> assertStatementsAtMost(0, () -> itemRepository.countLive()))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Expected at most 0 SQL statements but 1 were issued")
+            .hasMessageContaining("count(");
+    }
+
+    @Test
+    void shouldTimeStatementsAndCountSlowOnes() {
+        double slowBefore = slowStatements();
+
+        try (StatementCapture capture = StatementCapture.open()) {
+            itemRepository.countLive();
+            assertThat(capture.count()).isEqualTo(1);
+        }
+
+        assertThat(slowStatements()).isGreaterThan(slowBefore);
+        assertThat(meterRegistry.get("db.statements").tag("type", "select").timer().count()).isPositive();
+    }
+
+    @Test
+    void shouldRecordStatementsPerRequestAndFlagBudgetOverruns() throws Exception {
+        // Sorted pages bypass the query cache, so the request always reaches the database
+        mockMvc.perform(get("/api/items").param("sort", "name:desc")).andExpect(status().isOk());
+
+        assertThat(meterRegistry.get("http.server.requests.statements").tag("uri", "/api/items")
+            .summary().totalAmount()).isPositive();
+        assertThat(meterRegistry.get("http.server.requests.statement.budget.exceeded").tag("uri", "/api/items")
+            .counter().count()).isPositive();
+    }
+
+    private double slowStatements() {
+        return meterRegistry.get("db.statements.slow").counters().stream().mapToDouble(Counter::count).sum();
+    }
+}
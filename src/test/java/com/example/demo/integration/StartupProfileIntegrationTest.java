@@ -0,0 +1,55 @@
+package com.example.demo.integration;
+
+import com.example.demo.diagnostics.StartupTimeReporter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "startup"})
+@TestPropertySource(properties = "ratelimit.enabled=false")
+class StartupProfileIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Autowired
+    private StartupTimeReporter startupTimeReporter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldKeepHotPathBeansEager() {
+        assertThat(context.getEnvironment().getProperty("spring.main.lazy-initialization")).isEqualTo("true");
+        assertThat(context.getBeanFactory().containsSingleton("rateLimitService")).isTrue();
+        assertThat(context.getBeanFactory().containsSingleton("itemLookupService")).isTrue();
+    }
+
+    @Test
+    void shouldServeItemsWithDeferredRepositories() throws Exception {
+        mockMvc.perform(get("/api/items"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content").isArray());
+    }
+
+    @Test
+    void shouldReportTimeToReady() {
+        assertThat(startupTimeReporter.getTimeToReadyMs()).isPositive();
+        assertThat(meterRegistry.find("application.time-to-ready").timeGauge()).isNotNull();
+    }
+}
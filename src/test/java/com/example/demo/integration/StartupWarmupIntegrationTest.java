@@ -0,0 +1,89 @@
+package com.example.demo.integration;
+
+import com.example.demo.warmup.StartupWarmup;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "ratelimit.enabled=false",
+    "demo.warmup.enabled=true",
+    "demo.warmup.iterations=50",
+    "demo.warmup.hot-pages=2"
+})
+class StartupWarmupIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReadinessRecorder readinessRecorder;
+
+    @Test
+    void shouldFinishWarmupBeforeAcceptingTraffic() {
+        StartupWarmup.Progress atReadiness = readinessRecorder.progressWhenAccepting.get();
+
+        assertThat(atReadiness).isNotNull();
+        assertThat(atReadiness.phase()).isEqualTo(StartupWarmup.Phase.COMPLETED);
+        assertThat(atReadiness.iterationsCompleted()).isEqualTo(50);
+        assertThat(atReadiness.connectionsOpened()).isPositive();
+    }
+
+    @Test
+    void healthEndpoint_shouldExposeWarmupProgress() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.components.warmup.status").value("UP"))
+            .andExpect(jsonPath("$.components.warmup.details.phase").value("COMPLETED"))
+            .andExpect(jsonPath("$.components.warmup.details.iterations").value(50))
+            .andExpect(jsonPath("$.components.warmup.details.budgetExhausted").value(false));
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @TestConfiguration
+    static class ReadinessRecorderConfig {
+
+        @Bean
+        ReadinessRecorder readinessRecorder(StartupWarmup startupWarmup) {
+            return new ReadinessRecorder(startupWarmup);
+        }
+    }
+
+    static class ReadinessRecorder {
+
+        private final StartupWarmup startupWarmup;
+        final AtomicReference<StartupWarmup.Progress> progressWhenAccepting = new AtomicReference<>();
+
+        ReadinessRecorder(StartupWarmup startupWarmup) {
+            this.startupWarmup = startupWarmup;
+        }
+
+        @EventListener
+        void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+            if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+                progressWhenAccepting.compareAndSet(null, startupWarmup.getProgress());
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.integration;
+
+import com.example.demo.diagnostics.PinningMonitor;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {"spring.threads.virtual.enabled=true", "ratelimit.enabled=false"})
+class VirtualThreadModeIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void shouldGateConnectionsAndMonitorPinning() throws Exception {
+        assertThat(AopUtils.isCglibProxy(dataSource)).isTrue();
+        assertThat(applicationContext.getBeansOfType(PinningMonitor.class)).hasSize(1);
+
+        mockMvc.perform(get("/api/items"))
+            .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.json;
+
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.dto.PageResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageResponseSerializerTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(new PageResponseSerializer());
+        module.addSerializer(new ItemSummarySerializer());
+        objectMapper = new ObjectMapper().registerModule(module);
+    }
+
+    @Test
+    void shouldWriteContractFieldsOnly() throws Exception {
+        List<ItemSummary> content = List.of(
+            new ItemSummary(1L, "Item 1", "Description for item 1"),
+            new ItemSummary(2L, "Item 2", null)
+        );
+        PageResponse<ItemSummary> page = PageResponse.from(new PageImpl<>(content, PageRequest.of(0, 2), 5));
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(page));
+
+        assertEquals(2, json.get("content").size());
+        assertEquals("Item 1", json.get("content").get(0).get("name").asText());
+        assertTrue(json.get("content").get(1).get("description").isNull());
+        assertEquals(0, json.get("number").asInt());
+        assertEquals(2, json.get("size").asInt());
+        assertEquals(5, json.get("totalElements").asLong());
+        assertEquals(3, json.get("totalPages").asInt());
+        assertTrue(json.get("first").asBoolean());
+        assertFalse(json.get("last").asBoolean());
+        assertFalse(json.get("empty").asBoolean());
+        assertEquals(2, json.get("numberOfElements").asInt());
+        assertFalse(json.has("pageable"));
+        assertFalse(json.has("sort"));
+    }
+
+    @Test
+    void shouldWriteNullAndMixedElements() throws Exception {
+        PageResponse<Object> page = new PageResponse<>(Arrays.asList("a", null, 3), 0, 3, 3, 1, true, true, false, 3);
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(page));
+
+        assertEquals("a", json.get("content").get(0).asText());
+        assertTrue(json.get("content").get(1).isNull());
+        assertEquals(3, json.get("content").get(2).asInt());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.demo.latency;
+
+import com.example.demo.config.LatencyProperties;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteLatencyRecorderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RouteLatencyRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        LatencyProperties properties = new LatencyProperties();
+        properties.setSlices(2);
+        recorder = new RouteLatencyRecorder(properties, meterRegistry);
+    }
+
+    @Test
+    void shouldReportPercentilesPerRouteMethodAndStatus() {
+        for (int i = 1; i <= 100; i++) {
+            recorder.record("/api/items", "GET", 200, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        recorder.record("/api/items", "GET", 400, TimeUnit.MILLISECONDS.toNanos(5));
+        recorder.record("/api/items", "POST", 201, TimeUnit.MILLISECONDS.toNanos(7));
+        recorder.rotate();
+
+        List<RouteLatencyRecorder.Snapshot> snapshots = recorder.snapshot();
+
+        assertEquals(3, snapshots.size());
+        RouteLatencyRecorder.Snapshot ok = snapshots.get(0);
+        assertEquals("GET", ok.method());
+        assertEquals(200, ok.status());
+        assertEquals(100, ok.count());
+        assertEquals(50, ok.p50Ms(), 1);
+        assertEquals(99, ok.p99Ms(), 1);
+        assertEquals(100, ok.maxMs(), 1);
+        assertEquals(400, snapshots.get(1).status());
+        assertEquals("POST", snapshots.get(2).method());
+    }
+
+    @Test
+    void shouldOnlyReportCompletedSlices() {
+        recorder.record("/api/test", "GET", 200, 1_000_000);
+
+        assertEquals(0, recorder.snapshot().get(0).count());
+
+        recorder.rotate();
+        assertEquals(1, recorder.snapshot().get(0).count());
+    }
+
+    @Test
+    void shouldDropSlicesOlderThanTheWindow() {
+        recorder.record("/api/test", "GET", 200, 1_000_000);
+        recorder.rotate();
+        recorder.record("/api/test", "GET", 200, 1_000_000);
+        recorder.rotate();
+        assertEquals(2, recorder.snapshot().get(0).count());
+
+        recorder.rotate();
+        assertEquals(1, recorder.snapshot().get(0).count());
+
+        recorder.rotate();
+        assertEquals(0, recorder.snapshot().get(0).count());
+    }
+
+    @Test
+    void shouldClampLatenciesAboveHighestTrackable() {
+        recorder.record("/api/test", "GET", 200, TimeUnit.HOURS.toNanos(2));
+        recorder.rotate();
+
+        assertEquals(60_000, recorder.snapshot().get(0).maxMs(), 600);
+    }
+
+    @Test
+    void shouldPublishWindowPercentilesToMicrometer() {
+        recorder.record("/api/items/{id}", "GET", 200, TimeUnit.MILLISECONDS.toNanos(3));
+        recorder.rotate();
+
+        TimeGauge p99 = meterRegistry.find("http.server.latency.window")
+            .tags("route", "/api/items/{id}", "method", "GET", "status", "200", "quantile", "0.99")
+            .timeGauge();
+        assertNotNull(p99);
+        assertEquals(3, p99.value(TimeUnit.MILLISECONDS), 0.1);
+        assertEquals(1, meterRegistry.get("http.server.latency.window.count").gauge().value());
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.demo.search;
+
+import com.example.demo.config.SearchProperties;
+import com.example.demo.dto.ItemSearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemSearchIndexTest {
+
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ItemSearchIndex(new SearchProperties());
+    }
+
+    @Test
+    void shouldTokenizeOnNonAlphanumericCharacters() {
+        assertEquals(List.of("red", "widget", "size", "42"), ItemSearchIndex.tokenize("Red-Widget, size 42!"));
+        assertTrue(ItemSearchIndex.tokenize("  ").isEmpty());
+        assertTrue(ItemSearchIndex.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void shouldMatchTermPrefixes() {
+        index.index(1L, "Widget", "Blue", 1L, false);
+        index.index(2L, "Gadget", "Green", 1L, false);
+
+        assertEquals(List.of(1L), ids(index.search("wid", 10)));
+        assertEquals(List.of(2L), ids(index.search("gr", 10)));
+        assertTrue(index.search("sprocket", 10).hits().isEmpty());
+    }
+
+    @Test
+    void shouldRequireEveryQueryTerm() {
+        index.index(1L, "Red widget", null, 1L, false);
+        index.index(2L, "Blue widget", null, 1L, false);
+
+        assertEquals(List.of(1L), ids(index.search("widget red", 10)));
+    }
+
+    @Test
+    void shouldRankNameMatchesAboveDescriptionMatches() {
+        index.index(1L, "Gadget", "Pairs well with a widget", 1L, false);
+        index.index(2L, "Widget", "Standard issue", 1L, false);
+
+        assertEquals(List.of(2L, 1L), ids(index.search("widget", 10)));
+    }
+
+    @Test
+    void shouldRankExactMatchesAbovePrefixMatches() {
+        index.index(1L, "Widgets", null, 1L, false);
+        index.index(2L, "Widget", null, 1L, false);
+
+        assertEquals(List.of(2L, 1L), ids(index.search("widget", 10)));
+    }
+
+    @Test
+    void shouldReturnOnlyTopHits() {
+        for (long id = 1; id <= 50; id++) {
+            index.index(id, "Item " + id, null, 1L, false);
+        }
+
+        ItemSearchIndex.SearchResult result = index.search("item", 5);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids(result));
+        assertFalse(result.truncated());
+    }
+
+    @Test
+    void shouldExpandMostFrequentPrefixMatchesAndReportTruncation() {
+        index = new ItemSearchIndex(searchProperties(2));
+        // "waa" sorts first but is rare; "wzz" sorts last but is common
+        index.index(1L, "Waa", null, 1L, false);
+        index.index(2L, "Wmm", null, 1L, false);
+        index.index(3L, "Wzz", null, 1L, false);
+        index.index(4L, "Wzz", null, 1L, false);
+        index.index(5L, "Wzz", null, 1L, false);
+        index.index(6L, "Wmm", null, 1L, false);
+
+        ItemSearchIndex.SearchResult result = index.search("w", 10);
+
+        assertTrue(result.truncated());
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L), sorted(ids(result)));
+    }
+
+    @Test
+    void shouldAlwaysExpandExactTerm() {
+        index = new ItemSearchIndex(searchProperties(1));
+        index.index(1L, "Wid", null, 1L, false);
+        index.index(2L, "Widget", null, 1L, false);
+        index.index(3L, "Widget", null, 1L, false);
+
+        ItemSearchIndex.SearchResult result = index.search("wid", 10);
+
+        assertTrue(result.truncated());
+        assertEquals(List.of(1L), ids(result));
+    }
+
+    @Test
+    void shouldNotReportTruncationWhenEveryPrefixMatchIsExpanded() {
+        index = new ItemSearchIndex(searchProperties(2));
+        index.index(1L, "Wid", null, 1L, false);
+        index.index(2L, "Widget", null, 1L, false);
+
+        ItemSearchIndex.SearchResult result = index.search("wid", 10);
+
+        assertFalse(result.truncated());
+        assertEquals(List.of(1L, 2L), ids(result));
+    }
+
+    @Test
+    void shouldScoreQueryTermByBestMatchingExpansion() {
+        index.index(1L, "Widget", null, 1L, false);
+        index.index(2L, "Widget widgets", null, 1L, false);
+        index.index(3L, "Widgets", null, 1L, false);
+
+        List<ItemSearchHit> hits = index.search("wid", 10).hits();
+
+        // Matching two expansions scores no higher than matching one of them
+        assertEquals(List.of(1L, 2L, 3L), hits.stream().map(hit -> hit.item().id()).toList());
+        assertEquals(hits.get(0).score(), hits.get(1).score());
+    }
+
+    @Test
+    void shouldRankLikeExhaustiveScoringAfterUpdates() {
+        String[] words = {"red", "green", "blue", "widget", "wicket", "wrench", "gadget", "gear", "bolt", "bracket"};
+        SplittableRandom random = new SplittableRandom(7);
+        Map<Long, String[]> current = new HashMap<>();
+        for (int write = 0; write < 2000; write++) {
+            long id = 1 + random.nextInt(300);
+            long version = write + 1;
+            if (random.nextInt(5) == 0) {
+                index.index(id, null, null, version, true);
+                current.remove(id);
+            } else {
+                String name = phrase(random, words, 1 + random.nextInt(3));
+                String description = phrase(random, words, random.nextInt(5));
+                index.index(id, name, description, version, false);
+                current.put(id, new String[] {name, description});
+            }
+        }
+
+        assertEquals(current.size(), index.size());
+        for (String query : List.of("w", "wi", "g", "gadget", "red w", "b g", "gear red", "r", "bolt bolt")) {
+            for (int limit : new int[] {1, 5, 20}) {
+                assertEquals(exhaustiveTopIds(current, query, limit), ids(index.search(query, limit)),
+                    query + " limit " + limit);
+            }
+        }
+    }
+
+    @Test
+    void shouldReplaceTermsOnUpdate() {
+        index.index(1L, "Widget", null, 1L, false);
+        index.index(1L, "Gadget", null, 2L, false);
+
+        assertTrue(index.search("widget", 10).hits().isEmpty());
+        List<ItemSearchHit> hits = index.search("gadget", 10).hits();
+        assertEquals(1, hits.size());
+        assertEquals("Gadget", hits.get(0).item().name());
+    }
+
+    @Test
+    void shouldIgnoreOlderVersions() {
+        index.index(1L, "Gadget", null, 2L, false);
+        index.index(1L, "Widget", null, 1L, false);
+
+        assertTrue(index.search("widget", 10).hits().isEmpty());
+        assertEquals(List.of(1L), ids(index.search("gadget", 10)));
+    }
+
+    @Test
+    void shouldDropDeletedAndRemovedItems() {
+        index.index(1L, "Widget", null, 1L, false);
+        index.index(2L, "Widget", null, 1L, false);
+
+        index.index(1L, "Widget", null, 2L, true);
+        // A row removed outright is deleted at its last version
+        index.index(2L, null, null, 1L, true);
+
+        assertTrue(index.search("widget", 10).hits().isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void shouldNotResurrectDeletedItemsFromOlderCopies() {
+        index.index(1L, "Widget", null, 1L, false);
+        index.index(1L, null, null, 3L, true);
+
+        index.index(1L, "Widget", null, 2L, false);
+        index.index(1L, "Widget", null, 3L, false);
+
+        assertTrue(index.search("widget", 10).hits().isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void shouldAcceptOlderCopiesOnceTombstonesAreDropped() {
+        index.index(1L, null, null, 3L, true);
+        index.index(2L, null, null, 5L, true);
+
+        assertEquals(1, index.dropTombstones(5L));
+        index.index(1L, "Widget", null, 2L, false);
+        index.index(2L, "Widget", null, 4L, false);
+
+        assertEquals(List.of(1L), ids(index.search("widget", 10)));
+    }
+
+    private static String phrase(SplittableRandom random, String[] words, int length) {
+        StringBuilder phrase = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            phrase.append(i > 0 ? " " : "").append(words[random.nextInt(words.length)]);
+        }
+        return phrase.toString();
+    }
+
+    /**
+     * Scores every item against every prefix match, as the index would without early termination.
+     */
+    private static List<Long> exhaustiveTopIds(Map<Long, String[]> items, String query, int limit) {
+        Map<Long, Map<String, Integer>> weights = new HashMap<>();
+        Map<String, Integer> documentCounts = new HashMap<>();
+        items.forEach((id, text) -> {
+            Map<String, Integer> termWeights = new HashMap<>();
+            for (String term : ItemSearchIndex.tokenize(text[0])) {
+                termWeights.merge(term, ItemSearchIndex.NAME_WEIGHT, Integer::sum);
+            }
+            for (String term : ItemSearchIndex.tokenize(text[1])) {
+                termWeights.merge(term, ItemSearchIndex.DESCRIPTION_WEIGHT, Integer::sum);
+            }
+            weights.put(id, termWeights);
+            termWeights.keySet().forEach(t -> documentCounts.merge(t, 1, Integer::sum));
+        });
+
+        Map<Long, Double> scores = new HashMap<>();
+        weights.forEach((id, termWeights) -> {
+            double score = 0;
+            for (String queryTerm : ItemSearchIndex.tokenize(query)) {
+                double best = -1;
+                for (Map.Entry<String, Integer> term : termWeights.entrySet()) {
+                    if (term.getKey().startsWith(queryTerm)) {
+                        double idf = Math.log(1.0 + (double) items.size() / documentCounts.get(term.getKey()));
+                        double factor = term.getKey().equals(queryTerm) ? idf : idf * ItemSearchIndex.PREFIX_PENALTY;
+                        best = Math.max(best, term.getValue() * factor);
+                    }
+                }
+                if (best < 0) {
+                    return;
+                }
+                score += best;
+            }
+            scores.put(id, score);
+        });
+
+        return scores.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    private static SearchProperties searchProperties(int maxPrefixExpansions) {
+        SearchProperties properties = new SearchProperties();
+        properties.setMaxPrefixExpansions(maxPrefixExpansions);
+        return properties;
+    }
+
+    private static List<Long> ids(ItemSearchIndex.SearchResult result) {
+        return result.hits().stream().map(hit -> hit.item().id()).toList();
+    }
+
+    private static List<Long> sorted(List<Long> ids) {
+        return ids.stream().sorted().toList();
+    }
+}
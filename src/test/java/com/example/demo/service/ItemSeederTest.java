@@ -0,0 +1,144 @@
+package com.example.demo.service;
+
+import com.example.demo.config.SeedProperties;
+import com.example.demo.entity.Item;
+import com.example.demo.entity.SeedMarker;
+import com.example.demo.repository.ItemRepository;
+import com.example.demo.repository.SeedMarkerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSeederTest {
+
+    @Mock
+    private ItemBatchWriter itemBatchWriter;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private SeedMarkerRepository seedMarkerRepository;
+
+    private SeedProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SeedProperties();
+        properties.setCount(2500);
+        properties.setBatchSize(500);
+        properties.setParallelism(4);
+        properties.setRandomSeed(7);
+        properties.setDescriptionMinLength(40);
+        properties.setDescriptionMaxLength(200);
+    }
+
+    @Test
+    void shouldInsertConfiguredCountInBatches() throws InterruptedException {
+        List<Item> inserted = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> inserted.addAll(invocation.getArgument(0)))
+            .when(itemBatchWriter).insertBatch(anyList());
+
+        long count = new ItemSeeder(itemBatchWriter, itemRepository, seedMarkerRepository, properties).seed();
+
+        assertEquals(2500, count);
+        assertEquals(2500, inserted.size());
+        verify(itemBatchWriter, times(5)).insertBatch(anyList());
+    }
+
+    @Test
+    void shouldRecordSeedMarker() throws InterruptedException {
+        new ItemSeeder(itemBatchWriter, itemRepository, seedMarkerRepository, properties).seed();
+
+        ArgumentCaptor<SeedMarker> marker = ArgumentCaptor.forClass(SeedMarker.class);
+        verify(seedMarkerRepository).save(marker.capture());
+        assertEquals(ItemSeeder.MARKER_NAME, marker.getValue().getName());
+        assertEquals(2500, marker.getValue().getRowCount());
+    }
+
+    @Test
+    void shouldSeedEmptyTableWithoutMarker() throws InterruptedException {
+        when(seedMarkerRepository.existsById(ItemSeeder.MARKER_NAME)).thenReturn(false);
+        when(itemRepository.findMaxId()).thenReturn(null);
+
+        long count = new ItemSeeder(itemBatchWriter, itemRepository, seedMarkerRepository, properties).seedIfEmpty();
+
+        assertEquals(2500, count);
+        verify(itemBatchWriter, times(5)).insertBatch(anyList());
+    }
+
+    @Test
+    void shouldNotSeedPopulatedTableWithoutMarker() throws InterruptedException {
+        when(seedMarkerRepository.existsById(ItemSeeder.MARKER_NAME)).thenReturn(false);
+        when(itemRepository.findMaxId()).thenReturn(12345L);
+
+        long count = new ItemSeeder(itemBatchWriter, itemRepository, seedMarkerRepository, properties).seedIfEmpty();
+
+        assertEquals(0, count);
+        verify(itemBatchWriter, never()).insertBatch(anyList());
+        ArgumentCaptor<SeedMarker> marker = ArgumentCaptor.forClass(SeedMarker.class);
+        verify(seedMarkerRepository).save(marker.capture());
+        assertEquals(0, marker.getValue().getRowCount());
+    }
+
+    @Test
+    void shouldNotSeedWhenMarkerExists() throws InterruptedException {
+        when(seedMarkerRepository.existsById(ItemSeeder.MARKER_NAME)).thenReturn(true);
+
+        long count = new ItemSeeder(itemBatchWriter, itemRepository, seedMarkerRepository, properties).seedIfEmpty();
+
+        assertEquals(0, count);
+        verifyNoInteractions(itemBatchWriter, itemRepository);
+    }
+
+    @Test
+    void shouldGenerateSameRowsForSameSeed() {
+        ItemSeeder first = new ItemSeeder(itemBatchWriter, itemRepository, seedMarkerRepository, properties);
+        ItemSeeder second = new ItemSeeder(itemBatchWriter, itemRepository, seedMarkerRepository, properties);
+
+        List<Item> firstBatch = first.generateBatch(3);
+        List<Item> secondBatch = second.generateBatch(3);
+
+        assertEquals(500, firstBatch.size());
+        for (int i = 0; i < firstBatch.size(); i++) {
+            assertEquals(firstBatch.get(i).getName(), secondBatch.get(i).getName());
+            assertEquals(firstBatch.get(i).getDescription(), secondBatch.get(i).getDescription());
+        }
+        assertEquals("Item 1501", firstBatch.get(0).getName());
+    }
+
+    @Test
+    void shouldKeepDescriptionLengthsWithinBounds() {
+        properties.setSizeDistribution(SeedProperties.SizeDistribution.LONG_TAIL);
+        ItemSeeder seeder = new ItemSeeder(itemBatchWriter, itemRepository, seedMarkerRepository, properties);
+
+        for (Item item : seeder.generateBatch(0)) {
+            int length = item.getDescription().length();
+            assertTrue(length >= 40 && length <= 200, "unexpected description length " + length);
+        }
+    }
+
+    @Test
+    void shouldKeepDefaultDescriptionsWhenNoLengthConfigured() {
+        properties.setDescriptionMinLength(0);
+        properties.setDescriptionMaxLength(0);
+        ItemSeeder seeder = new ItemSeeder(itemBatchWriter, itemRepository, seedMarkerRepository, properties);
+
+        Item item = seeder.generateBatch(0).get(0);
+
+        assertEquals("Item 1", item.getName());
+        assertEquals("Description for item 1", item.getDescription());
+    }
+}
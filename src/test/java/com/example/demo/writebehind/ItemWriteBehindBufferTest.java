@@ -0,0 +1,217 @@
+package com.example.demo.writebehind;
+
+import com.example.demo.config.WriteBehindProperties;
+import com.example.demo.dto.ItemSummary;
+import com.example.demo.entity.Item;
+import com.example.demo.exception.WriteBufferFullException;
+import com.example.demo.service.ItemBatchWriter;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemWriteBehindBufferTest {
+
+    @Mock
+    private ItemBatchWriter itemBatchWriter;
+
+    private ItemWriteBehindBuffer buffer;
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.stop();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCommitFullGroupsInOneBatch() throws Exception {
+        buffer = start(16, 4, Duration.ofSeconds(10));
+        List<Integer> batchSizes = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<Item> items = invocation.getArgument(0);
+            batchSizes.add(items.size());
+            return null;
+        }).when(itemBatchWriter).insertBatch(anyList());
+
+        List<CompletableFuture<ItemSummary>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(buffer.submit(new Item("Item " + i, null)));
+        }
+
+        for (CompletableFuture<ItemSummary> future : futures) {
+            future.get(2, TimeUnit.SECONDS);
+        }
+        assertEquals(List.of(4), batchSizes);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCommitPartialGroupAfterFlushInterval() throws Exception {
+        buffer = start(16, 100, Duration.ofMillis(20));
+
+        ItemSummary summary = buffer.submit(new Item("Lonely", null)).get(2, TimeUnit.SECONDS);
+
+        assertEquals("Lonely", summary.name());
+        ArgumentCaptor<List<Item>> captor = ArgumentCaptor.forClass(List.class);
+        verify(itemBatchWriter).insertBatch(captor.capture());
+        assertEquals(1, captor.getValue().size());
+    }
+
+    @Test
+    void shouldRejectWritesWhenBufferIsFull() throws Exception {
+        buffer = start(2, 1, Duration.ofMillis(1));
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writerBlocked.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(itemBatchWriter).insertBatch(anyList());
+
+        buffer.submit(new Item("In flight", null));
+        assertTrue(writerBlocked.await(2, TimeUnit.SECONDS));
+        buffer.submit(new Item("Queued 1", null));
+        buffer.submit(new Item("Queued 2", null));
+
+        assertThrows(WriteBufferFullException.class, () -> buffer.submit(new Item("Rejected", null)));
+        release.countDown();
+    }
+
+    @Test
+    void shouldFailEveryWriteOfFailedGroup() {
+        buffer = start(16, 2, Duration.ofSeconds(10));
+        doThrow(new IllegalStateException("database down")).when(itemBatchWriter).insertBatch(anyList());
+
+        CompletableFuture<ItemSummary> first = buffer.submit(new Item("A", null));
+        CompletableFuture<ItemSummary> second = buffer.submit(new Item("B", null));
+
+        assertThrows(ExecutionException.class, () -> first.get(2, TimeUnit.SECONDS));
+        assertThrows(ExecutionException.class, () -> second.get(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldFailOnlyTheRejectedWriteOfFailedGroup() throws Exception {
+        buffer = start(16, 3, Duration.ofSeconds(10));
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            List<Item> items = invocation.getArgument(0);
+            batchSizes.add(items.size());
+            if (items.stream().anyMatch(item -> item.getName().equals("Duplicate"))) {
+                throw new PersistenceException(new SQLIntegrityConstraintViolationException("duplicate key", "23505"));
+            }
+            return null;
+        }).when(itemBatchWriter).insertBatch(anyList());
+
+        CompletableFuture<ItemSummary> first = buffer.submit(new Item("A", null));
+        CompletableFuture<ItemSummary> duplicate = buffer.submit(new Item("Duplicate", null));
+        CompletableFuture<ItemSummary> third = buffer.submit(new Item("C", null));
+
+        assertEquals("A", first.get(2, TimeUnit.SECONDS).name());
+        assertEquals("C", third.get(2, TimeUnit.SECONDS).name());
+        assertThrows(ExecutionException.class, () -> duplicate.get(2, TimeUnit.SECONDS));
+        assertEquals(List.of(3, 1, 1, 1), batchSizes);
+    }
+
+    @Test
+    void shouldNotFinishStoppingWhileGroupIsCommitting() throws Exception {
+        buffer = start(16, 1, Duration.ofMillis(1));
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writerBlocked.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(itemBatchWriter).insertBatch(anyList());
+        CompletableFuture<ItemSummary> inFlight = buffer.submit(new Item("In flight", null));
+        assertTrue(writerBlocked.await(2, TimeUnit.SECONDS));
+
+        Thread stopping = new Thread(buffer::stop);
+        stopping.start();
+        stopping.join(200);
+        assertTrue(stopping.isAlive());
+
+        release.countDown();
+        stopping.join(2000);
+        assertFalse(stopping.isAlive());
+        assertTrue(inFlight.isDone());
+    }
+
+    @Test
+    void shouldCommitBufferedWritesOnStop() throws Exception {
+        buffer = start(16, 100, Duration.ofSeconds(10));
+        CompletableFuture<ItemSummary> pending = buffer.submit(new Item("Pending", null));
+
+        buffer.stop();
+
+        assertTrue(pending.isDone());
+        assertEquals("Pending", pending.get().name());
+        assertThrows(WriteBufferFullException.class, () -> buffer.submit(new Item("Late", null)));
+    }
+
+    @Test
+    void shouldCompleteEveryAcceptedWriteWhenStoppingUnderLoad() throws Exception {
+        buffer = start(1024, 8, Duration.ofMillis(1));
+        List<CompletableFuture<ItemSummary>> accepted = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch submitting = new CountDownLatch(4);
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            Thread producer = new Thread(() -> {
+                submitting.countDown();
+                while (true) {
+                    try {
+                        accepted.add(buffer.submit(new Item("Item", null)));
+                    } catch (WriteBufferFullException e) {
+                        if (e.getMessage().contains("shutting down")) {
+                            return;
+                        }
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        assertTrue(submitting.await(2, TimeUnit.SECONDS));
+        Thread.sleep(20);
+
+        buffer.stop();
+        for (Thread producer : producers) {
+            producer.join(2000);
+        }
+
+        assertFalse(accepted.isEmpty());
+        for (CompletableFuture<ItemSummary> future : accepted) {
+            assertTrue(future.isDone(), "accepted write was never committed");
+        }
+    }
+
+    private ItemWriteBehindBuffer start(int capacity, int flushSize, Duration flushInterval) {
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setCapacity(capacity);
+        properties.setFlushSize(flushSize);
+        properties.setFlushInterval(flushInterval);
+        ItemWriteBehindBuffer started = new ItemWriteBehindBuffer(itemBatchWriter, properties);
+        started.start();
+        return started;
+    }
+}
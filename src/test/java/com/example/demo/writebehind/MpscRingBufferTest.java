@@ -0,0 +1,84 @@
+package com.example.demo.writebehind;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MpscRingBufferTest {
+
+    @Test
+    void shouldRoundCapacityUpToPowerOfTwo() {
+        assertEquals(2, new MpscRingBuffer<>(2).capacity());
+        assertEquals(8, new MpscRingBuffer<>(5).capacity());
+        assertEquals(1024, new MpscRingBuffer<>(1024).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(1));
+    }
+
+    @Test
+    void shouldRejectOffersWhenFull() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+    }
+
+    @Test
+    void shouldDrainInOrderAndReuseSlots() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(buffer.offer(lap * 4 + i));
+            }
+            assertEquals(3, buffer.drain(drained::add, 3));
+            assertEquals(1, buffer.drain(drained::add, 10));
+            assertTrue(buffer.isEmpty());
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11), drained);
+    }
+
+    @Test
+    void shouldDeliverEveryElementFromConcurrentProducers() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 10_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(256);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int offset = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(offset + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> received = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (received.size() < producers * perProducer && System.nanoTime() < deadline) {
+            buffer.drain(received::add, 128);
+        }
+        executor.shutdown();
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(producers * perProducer, received.size());
+    }
+}